@@ -40,11 +40,14 @@ public class BShellConfiguration {
     private boolean isDumb;
 
     private BShellConfiguration(boolean isDebug, boolean isDumb, long treeParsingTimeout,
-                                InputStream inputStream, OutputStream outputStream, String startFile) {
+                                boolean isParallelTreeParsing, InputStream inputStream,
+                                OutputStream outputStream, String startFile) {
         this.isDebug = isDebug;
         this.isDumb = isDumb;
         this.evaluator = new EvaluatorBuilder()
-                .treeParser(TrialTreeParser.defaultParser(treeParsingTimeout))
+                .treeParser(isParallelTreeParsing
+                        ? TrialTreeParser.parallelParser(treeParsingTimeout)
+                        : TrialTreeParser.defaultParser(treeParsingTimeout))
                 .build();
         this.inputStream = inputStream;
         this.outputStream = outputStream;
@@ -109,6 +112,7 @@ public class BShellConfiguration {
         private InputStream inputStream;
         private OutputStream outputStream;
         private long treeParsingTimeoutMs;
+        private boolean isParallelTreeParsing;
         private String startFile;
         private boolean isDebug;
         private boolean isDumb;
@@ -117,6 +121,7 @@ public class BShellConfiguration {
             this.inputStream = System.in;
             this.outputStream = System.out;
             this.treeParsingTimeoutMs = 1000;
+            this.isParallelTreeParsing = false;
             this.startFile = null;
             this.isDebug = false;
             this.isDumb = false;
@@ -149,6 +154,17 @@ public class BShellConfiguration {
             return this;
         }
 
+        /**
+         * Parallel tree parsing will attempt all the parser trials at once
+         * and remember the outcome of each parsed source.
+         * Enable this when the same sources are parsed repeatedly.
+         * (eg: re-evaluated notebook cells)
+         */
+        public Builder setParallelTreeParsing(boolean parallelTreeParsing) {
+            this.isParallelTreeParsing = parallelTreeParsing;
+            return this;
+        }
+
         /**
          * Debug mode will enable performance and similar stats.
          * These will also enable debug messages.
@@ -186,7 +202,7 @@ public class BShellConfiguration {
          * @return Created ballerina shell config.
          */
         public BShellConfiguration build() {
-            return new BShellConfiguration(isDebug, isDumb, treeParsingTimeoutMs,
+            return new BShellConfiguration(isDebug, isDumb, treeParsingTimeoutMs, isParallelTreeParsing,
                     inputStream, outputStream, startFile);
         }
     }
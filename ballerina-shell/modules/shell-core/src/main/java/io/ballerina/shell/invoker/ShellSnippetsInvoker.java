@@ -101,6 +101,13 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Offline project that is loaded from the buffer file.
+     * This is kept across evaluations and only its document is
+     * modified, so that the compiler caches of the project
+     * (resolved dependencies, loaded modules) are reused.
+     */
+    private Project bufferProject;
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
@@ -248,17 +255,50 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            if (isOffline && bufferProject != null) {
+                return updateBufferProject(source);
+            }
             BuildOptions buildOptions = BuildOptions.builder()
                     .setOffline(isOffline)
                     .targetDir(ProjectUtils.getTemporaryTargetPath())
                     .build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                bufferProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
         }
     }
 
+    /**
+     * Replaces the content of the buffer project document with the given source.
+     * The project is not reloaded, so the compilation of an unchanged source
+     * is reused as is and a changed source only recompiles the shell module.
+     *
+     * @param source Source to set as the document content.
+     * @return Project with the updated document.
+     */
+    private Project updateBufferProject(String source) {
+        Module module = bufferProject.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+        if (!source.equals(document.textDocument().toString())) {
+            bufferProject = document.modify().withContent(source).apply().module().project();
+        }
+        return bufferProject;
+    }
+
+    /**
+     * Discards the buffer project so that the next project is loaded from scratch.
+     * This must be called whenever the state that the project was loaded with
+     * (eg: available modules in the repositories) could have changed.
+     */
+    protected void resetProject() {
+        this.bufferProject = null;
+    }
+
     /* Compilation methods */
 
     /**
@@ -321,6 +361,8 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
                 addErrorDiagnostic("Import resolution failed. Module not found.");
                 throw new InvokerException();
             }
+            // Module was pulled to the local repository, offline project has to see it.
+            resetProject();
         }
     }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.shell.parser;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.shell.exceptions.TreeParserException;
+import io.ballerina.shell.parser.trials.InvalidMethodException;
+import io.ballerina.shell.parser.trials.ParserRejectedException;
+import io.ballerina.shell.parser.trials.ParserTrialFailedException;
+import io.ballerina.shell.parser.trials.ParserTrialTimedOutException;
+import io.ballerina.shell.parser.trials.TreeParserTrial;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Trial based parser that attempts all the trials at once.
+ * Trials keep the same precedence as in {@link SerialTreeParser}:
+ * a trial is accepted only after all the preceding trials have failed.
+ * Once a trial is accepted, the trials that are still running are cancelled.
+ * The outcome of a source is remembered, so a source that is parsed
+ * again (eg: a re-evaluated notebook cell) does not run any trial.
+ * Outcomes that depend on a trial that timed out are not remembered.
+ *
+ * @since 2201.10.0
+ */
+public class ParallelTreeParser extends SerialTreeParser {
+    private static final int MAX_REMEMBERED_OUTCOMES = 256;
+    private static final String THREAD_NAME = "shell-trial-parser";
+
+    private final ExecutorService executor;
+    private final Map<String, TrialOutcome> outcomes;
+
+    public ParallelTreeParser(long timeOutDurationMs) {
+        super(timeOutDurationMs);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.outcomes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TrialOutcome> eldest) {
+                return size() > MAX_REMEMBERED_OUTCOMES;
+            }
+        };
+    }
+
+    @Override
+    public Collection<Node> parse(String source) throws TreeParserException {
+        TrialOutcome outcome;
+        synchronized (outcomes) {
+            outcome = outcomes.get(source);
+        }
+        if (outcome == null) {
+            outcome = runTrials(source);
+            if (outcome.isFinal()) {
+                synchronized (outcomes) {
+                    outcomes.put(source, outcome);
+                }
+            }
+        }
+
+        switch (outcome.kind) {
+            case ACCEPTED:
+                return new ArrayList<>(outcome.nodes);
+            case INVALID_METHOD:
+                addErrorDiagnostic(outcome.errorMessage);
+                throw new TreeParserException();
+            default:
+                addParsingErrorDiagnostics(source, outcome.errorMessage);
+                throw new TreeParserException();
+        }
+    }
+
+    /**
+     * Runs all the trials concurrently and finds the outcome of the first trial that did not fail.
+     *
+     * @param source Input source statement.
+     * @return Outcome of the trials.
+     */
+    private TrialOutcome runTrials(String source) {
+        List<Future<Collection<Node>>> futures = new ArrayList<>();
+        for (TreeParserTrial trial : getNodeParserTrials()) {
+            futures.add(executor.submit(() -> trial.parse(source)));
+        }
+
+        String errorMessage = "";
+        boolean timedOut = false;
+        try {
+            for (Future<Collection<Node>> future : futures) {
+                try {
+                    Collection<Node> nodes = Objects.requireNonNull(future.get(), "trial returned no nodes");
+                    return new TrialOutcome(OutcomeKind.ACCEPTED, nodes, null, timedOut);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof ParserTrialFailedException) {
+                        // A preceding trial that timed out might have been accepted given more time.
+                        timedOut |= cause instanceof ParserTrialTimedOutException;
+                        errorMessage = cause.getMessage();
+                    } else if (cause instanceof ParserRejectedException) {
+                        return new TrialOutcome(OutcomeKind.FAILED, null,
+                                "Invalid statement: " + cause.getMessage(), timedOut);
+                    } else if (cause instanceof InvalidMethodException) {
+                        return new TrialOutcome(OutcomeKind.INVALID_METHOD, null, cause.getMessage(), timedOut);
+                    } else {
+                        errorMessage = "Code contains syntax error(s).";
+                    }
+                }
+            }
+            return new TrialOutcome(OutcomeKind.FAILED, null, errorMessage, timedOut);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new TrialOutcome(OutcomeKind.INTERRUPTED, null, "Tree parsing was interrupted.", timedOut);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Kinds of outcomes of running the trials on a source.
+     */
+    private enum OutcomeKind {
+        ACCEPTED,
+        FAILED,
+        INVALID_METHOD,
+        INTERRUPTED
+    }
+
+    /**
+     * Outcome of running the trials on a source.
+     * Holds the parsed nodes if a trial was accepted, otherwise the error message.
+     */
+    private static class TrialOutcome {
+        private final OutcomeKind kind;
+        private final Collection<Node> nodes;
+        private final String errorMessage;
+        private final boolean timedOut;
+
+        private TrialOutcome(OutcomeKind kind, Collection<Node> nodes, String errorMessage, boolean timedOut) {
+            this.kind = kind;
+            this.nodes = nodes;
+            this.errorMessage = errorMessage;
+            this.timedOut = timedOut;
+        }
+
+        /**
+         * Whether the same outcome is expected when the source is parsed again.
+         */
+        private boolean isFinal() {
+            return kind != OutcomeKind.INTERRUPTED && !timedOut;
+        }
+    }
+}
@@ -85,6 +85,17 @@ public class SerialTreeParser extends TrialTreeParser {
                 errorMessage = "Code contains syntax error(s).";
             }
         }
+        addParsingErrorDiagnostics(source, errorMessage);
+        throw new TreeParserException();
+    }
+
+    /**
+     * Reports the error of a source that could not be parsed by any trial.
+     *
+     * @param source       Input source statement.
+     * @param errorMessage Error message of the last failed trial.
+     */
+    protected void addParsingErrorDiagnostics(String source, String errorMessage) {
         if (source.startsWith(COMMAND_PREFIX)) {
             errorMessage = "Can not find the command: " + source.trim();
             addErrorDiagnostic(errorMessage);
@@ -93,7 +104,15 @@ public class SerialTreeParser extends TrialTreeParser {
             addErrorDiagnostic(errorMessage);
             addErrorDiagnostic("Parsing aborted due to errors.");
         }
-        throw new TreeParserException();
+    }
+
+    /**
+     * Get the trials to attempt, in the order of their precedence.
+     *
+     * @return Parser trials.
+     */
+    protected List<TreeParserTrial> getNodeParserTrials() {
+        return nodeParserTrials;
     }
 
     @Override
@@ -41,6 +41,17 @@ public abstract class TrialTreeParser extends TreeParser {
         return new SerialTreeParser(timeOutDurationMs);
     }
 
+    /**
+     * Creates a parser that attempts all the trials concurrently
+     * and remembers the outcome of each parsed source.
+     *
+     * @param timeOutDurationMs Timeout of a single trial.
+     * @return Created parser.
+     */
+    public static TrialTreeParser parallelParser(long timeOutDurationMs) {
+        return new ParallelTreeParser(timeOutDurationMs);
+    }
+
     public long getTimeOutDurationMs() {
         return timeOutDurationMs;
     }
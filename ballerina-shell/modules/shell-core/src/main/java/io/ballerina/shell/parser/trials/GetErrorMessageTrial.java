@@ -74,7 +74,7 @@ public class GetErrorMessageTrial extends TreeParserTrial {
             throw new ParserTrialFailedException("syntax error: " + errorMessage);
         } catch (TimeoutException e) {
             future.cancel(true);
-            throw new ParserTrialFailedException("Tree parsing was timed out.");
+            throw new ParserTrialTimedOutException();
         }
         throw new IllegalStateException("Unknown statement");
     }
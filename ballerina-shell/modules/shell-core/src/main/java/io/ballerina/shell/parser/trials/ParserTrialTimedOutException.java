@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.shell.parser.trials;
+
+/**
+ * Exception to denote that trial did not finish in time.
+ * The same source may be accepted by the trial if parsed again.
+ *
+ * @since 2201.10.0
+ */
+public class ParserTrialTimedOutException extends ParserTrialFailedException {
+    public ParserTrialTimedOutException() {
+        super("Tree parsing was timed out.");
+    }
+}
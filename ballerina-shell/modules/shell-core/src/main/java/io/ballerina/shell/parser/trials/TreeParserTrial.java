@@ -71,12 +71,13 @@ public abstract class TreeParserTrial {
         try {
             tree = future.get(getTimeOutDurationMs(), TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
+            future.cancel(true);
             throw new ParserTrialFailedException("Tree parsing was interrupted.");
         } catch (ExecutionException e) {
             throw new ParserTrialFailedException("Executor failure because " + e.getCause().getMessage());
         } catch (TimeoutException e) {
             future.cancel(true);
-            throw new ParserTrialFailedException("Tree parsing was timed out.");
+            throw new ParserTrialTimedOutException();
         }
 
         for (Diagnostic diagnostic : tree.diagnostics()) {
@@ -32,6 +32,7 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
     private static final String PANIC_SAVE_STATE_TESTCASE = "testcases/evaluator/regression.panic.save.state.json";
     private static final String QUALIFIERS_TESTCASE = "testcases/evaluator/regression.qualifiers.json";
     private static final String IMPORT_CYCLIC_TYPE_TESTCASE = "testcases/evaluator/regression.cyclic.type.json";
+    private static final String PROJECT_REUSE_TESTCASE = "testcases/evaluator/regression.project.reuse.json";
 
     @Test
     public void testEvaluateSameImport() throws BallerinaShellException {
@@ -62,4 +63,10 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
         // Cyclic types use.
         testEvaluate(IMPORT_CYCLIC_TYPE_TESTCASE);
     }
+
+    @Test
+    public void testEvaluateProjectReuse() throws BallerinaShellException {
+        // Redefinitions and failed compilations on the reused project.
+        testEvaluate(PROJECT_REUSE_TESTCASE);
+    }
 }
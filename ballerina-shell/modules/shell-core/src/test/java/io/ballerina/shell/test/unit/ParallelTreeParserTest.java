@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.shell.test.unit;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.shell.exceptions.TreeParserException;
+import io.ballerina.shell.parser.ParallelTreeParser;
+import io.ballerina.shell.parser.TreeParser;
+import io.ballerina.shell.parser.TrialTreeParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Test tree parser use cases with the trials attempted in parallel.
+ *
+ * @since 2201.10.0
+ */
+public class ParallelTreeParserTest extends TrialTreeParserTest {
+
+    @Override
+    protected TreeParser getTreeParser() {
+        return TrialTreeParser.parallelParser(10000);
+    }
+
+    @Test
+    public void testRememberedOutcome() throws TreeParserException {
+        TreeParser treeParser = getTreeParser();
+        List<Node> first = new ArrayList<>(treeParser.parse("int x = 10;"));
+        Collection<Node> second = treeParser.parse("int x = 10;");
+        Assert.assertEquals(second, first);
+    }
+
+    @Test
+    public void testRememberedFailure() {
+        TreeParser treeParser = getTreeParser();
+        for (int i = 0; i < 2; i++) {
+            treeParser.resetDiagnostics();
+            Assert.assertThrows(TreeParserException.class, () -> treeParser.parse("int x = ;"));
+            Assert.assertTrue(treeParser.hasErrors());
+        }
+    }
+
+    @Test
+    public void testTimedOutOutcomeNotRemembered() throws TreeParserException {
+        AdjustableTimeoutParser treeParser = new AdjustableTimeoutParser();
+        treeParser.timeOutDurationMs = 0;
+        try {
+            treeParser.parse("int x = 10;");
+        } catch (TreeParserException ignored) {
+            // The outcome depends on which trials timed out.
+        }
+
+        treeParser.timeOutDurationMs = 10000;
+        treeParser.resetDiagnostics();
+        List<Node> nodes = new ArrayList<>(treeParser.parse("int x = 10;"));
+        Assert.assertEquals(nodes.size(), 1);
+        Assert.assertEquals(nodes.get(0).kind(), SyntaxKind.MODULE_VAR_DECL);
+    }
+
+    /**
+     * Parallel parser of which the trial timeout can be changed.
+     */
+    private static class AdjustableTimeoutParser extends ParallelTreeParser {
+        private long timeOutDurationMs;
+
+        private AdjustableTimeoutParser() {
+            super(0);
+        }
+
+        @Override
+        public long getTimeOutDurationMs() {
+            return timeOutDurationMs;
+        }
+    }
+}
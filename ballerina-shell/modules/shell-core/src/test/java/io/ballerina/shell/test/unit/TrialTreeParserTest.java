@@ -95,9 +95,18 @@ public class TrialTreeParserTest {
         testModuleDclnName(MODULE_DCLN_RESERVED_TESTCASE);
     }
 
+    /**
+     * Creates the tree parser to test.
+     *
+     * @return Created tree parser.
+     */
+    protected TreeParser getTreeParser() {
+        return TestUtils.getTestTreeParser();
+    }
+
     private void testParse(String fileName, Class<?> parentClazz) {
         TestCases testCases = TestUtils.loadTestCases(fileName, TestCases.class);
-        TreeParser treeParser = TestUtils.getTestTreeParser();
+        TreeParser treeParser = getTreeParser();
         for (TestCase testCase : testCases) {
             try {
                 Collection<Node> nodes = treeParser.parse(testCase.getInput());
@@ -114,7 +123,7 @@ public class TrialTreeParserTest {
 
     private void testModuleDclnName(String fileName) throws TreeParserException {
         TestCases testCases = TestUtils.loadTestCases(fileName, TestCases.class);
-        TreeParser treeParser = TestUtils.getTestTreeParser();
+        TreeParser treeParser = getTreeParser();
         for (TestCase testCase : testCases) {
             treeParser.parse(testCase.getInput());
         }
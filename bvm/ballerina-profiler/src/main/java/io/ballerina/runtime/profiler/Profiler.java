@@ -47,6 +47,7 @@ import java.util.zip.ZipInputStream;
 
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
 import static io.ballerina.runtime.profiler.util.Constants.CURRENT_DIR_KEY;
+import static io.ballerina.runtime.profiler.util.Constants.MODULE_INIT_CLASS_SUFFIX;
 import static io.ballerina.runtime.profiler.util.Constants.OUT_STREAM;
 import static io.ballerina.runtime.profiler.util.Constants.PERFORMANCE_JSON;
 
@@ -61,6 +62,7 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private int samplingInterval = 0;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -141,6 +143,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingInterval(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -160,6 +166,19 @@ public class Profiler {
         return value.substring(1, value.length() - 1);
     }
 
+    private int extractSamplingInterval(String value) {
+        int interval;
+        try {
+            interval = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ProfilerException("Invalid sampling interval found: " + value, e);
+        }
+        if (interval <= 0) {
+            throw new ProfilerException("Invalid sampling interval found: " + value);
+        }
+        return interval;
+    }
+
     private void handleUnrecognizedArgument(String argument, List<String> usedArgs) {
         if (!usedArgs.contains(argument)) {
             throw new ProfilerException("Unrecognized argument found: " + argument);
@@ -211,7 +230,9 @@ public class Profiler {
                 if (mainClassPackage == null || className.contains("$gen$")) {
                     continue;
                 }
-                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                if (samplingInterval > 0) {
+                    addSamplerStart(jarFile, className, mainClassPackage, profilerClassLoader);
+                } else if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
                     try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
                         String sourceClassName = className.replace(Constants.CLASS_SUFFIX, "");
                         byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName);
@@ -219,18 +240,35 @@ public class Profiler {
                         profilerMethodWrapper.printCode(className, code, getFileNameWithoutExtension(balJarName));
                     }
                 }
-                if (className.endsWith("/$_init.class")) {
+                if (className.endsWith(MODULE_INIT_CLASS_SUFFIX)) {
                     moduleCount++;
                 }
             }
             OUT_STREAM.printf("      Instrumented module count: %d%n", moduleCount);
-            OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+            if (samplingInterval > 0) {
+                OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+            } else {
+                OUT_STREAM.printf("      Instrumented function count: %d%n", balFunctionCount);
+            }
             modifyJar();
         } catch (Throwable throwable) {
             throw new ProfilerException(throwable);
         }
     }
 
+    // In the sampling mode, only the main class is changed to start the sampler instead of wrapping every function.
+    private void addSamplerStart(JarFile jarFile, String className, String mainClassPackage,
+                                 ProfilerClassLoader profilerClassLoader) throws IOException {
+        if (!className.equals(mainClassPackage + MODULE_INIT_CLASS_SUFFIX)) {
+            return;
+        }
+        try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
+            byte[] code = profilerMethodWrapper.addSamplerStart(inputStream, samplingInterval);
+            profilerClassLoader.loadClass(code);
+            profilerMethodWrapper.printCode(className, code, getFileNameWithoutExtension(balJarName));
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -104,6 +104,19 @@ public class ProfilerMethodWrapper extends ClassLoader {
         return new byte[0]; // Return a zero-length byte array if the code was not modified
     }
 
+    public byte[] addSamplerStart(InputStream inputStream, int samplingInterval) {
+        try {
+            ClassReader reader = new ClassReader(inputStream);
+            ClassWriter classWriter = new ProfilerClassWriter(reader, ClassWriter.COMPUTE_MAXS |
+                    ClassWriter.COMPUTE_FRAMES);
+            reader.accept(new SamplingClassVisitor(samplingInterval, classWriter), ClassReader.EXPAND_FRAMES);
+            return classWriter.toByteArray();
+        } catch (Throwable e) {
+            ERROR_STREAM.println(e + "%n");
+        }
+        return new byte[0];
+    }
+
     // Print out the modified class code
     public void printCode(String className, byte[] code, String balJarName) {
         int lastSlashIndex = className.lastIndexOf('/');
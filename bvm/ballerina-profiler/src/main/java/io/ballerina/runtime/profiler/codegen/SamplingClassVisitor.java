@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.codegen;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AdviceAdapter;
+
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD;
+import static io.ballerina.runtime.profiler.util.Constants.MAIN_METHOD_DESCRIPTOR;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_PROFILER;
+import static io.ballerina.runtime.profiler.util.Constants.START_SAMPLING_DESCRIPTOR;
+
+/**
+ * This class is used as the class visitor for the sampling mode of the Ballerina profiler. Only the main method of
+ * the executable is changed, so that it starts the
+ * {@link io.ballerina.runtime.profiler.runtime.SamplingProfiler} before running the program.
+ *
+ * @since 2201.10.0
+ */
+public class SamplingClassVisitor extends ClassVisitor {
+
+    private final int samplingInterval;
+
+    public SamplingClassVisitor(int samplingInterval, ClassVisitor classVisitor) {
+        super(Opcodes.ASM9, classVisitor);
+        this.samplingInterval = samplingInterval;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+        MethodVisitor methodVisitor = super.visitMethod(access, name, desc, signature, exceptions);
+        if (!name.equals(MAIN_METHOD) || !desc.equals(MAIN_METHOD_DESCRIPTOR) || (access & Opcodes.ACC_STATIC) == 0) {
+            return methodVisitor;
+        }
+        return new AdviceAdapter(Opcodes.ASM9, methodVisitor, access, name, desc) {
+            @Override
+            protected void onMethodEnter() {
+                mv.visitLdcInsn(samplingInterval);
+                mv.visitMethodInsn(INVOKESTATIC, SAMPLING_PROFILER, "start", START_SAMPLING_DESCRIPTOR, false);
+            }
+        };
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
+
+/**
+ * Low overhead profiler that periodically samples the stacks of the scheduler worker threads instead of wrapping
+ * every Ballerina function. The samples are folded into a call tree whose nodes refer to the frames using integer
+ * ids, and the tree is written in the same format as {@link ProfileAnalyzer} to produce the same flame graph.
+ *
+ * @since 2201.10.0
+ */
+public class SamplingProfiler implements Runnable {
+
+    private static final String SAMPLER_THREAD_NAME = "jbal-profiler-sampler";
+    private static final String MODULE_INIT_CLASS = "$_init";
+    private static final String JAVA_MAIN_METHOD = "main";
+    private static final String LAMBDA_PREFIX = "$lambda$";
+    private static final String JAVA_LAMBDA_PREFIX = "lambda$";
+    private static final String GENERATED_MARKER = "$gen$";
+    private static final int ROOT_NODE = 0;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static SamplingProfiler instance;
+
+    private final long intervalMillis;
+    private final Thread samplerThread;
+    private final Supplier<? extends Collection<Thread>> workerThreads;
+    private final Predicate<String> modulePackageFilter;
+    private final Map<String, Boolean> modulePackages = new HashMap<>();
+    private final Map<String, Integer> frameIds = new HashMap<>();
+    private final List<String> frameNames = new ArrayList<>();
+    // Child nodes keyed by the parent node index in the high bits and the frame id in the low bits.
+    private final Map<Long, Integer> childNodes = new HashMap<>();
+    private int[] nodeFrames = new int[INITIAL_CAPACITY];
+    private int[] nodeParents = new int[INITIAL_CAPACITY];
+    private long[] nodeSamples = new long[INITIAL_CAPACITY];
+    private int nodeCount = 1;
+    private int[] stackBuffer = new int[INITIAL_CAPACITY];
+    private volatile boolean running = true;
+
+    SamplingProfiler(int intervalMillis, Supplier<? extends Collection<Thread>> workerThreads,
+                     Predicate<String> modulePackageFilter) {
+        this.intervalMillis = intervalMillis;
+        this.workerThreads = workerThreads;
+        this.modulePackageFilter = modulePackageFilter;
+        this.samplerThread = new Thread(this, SAMPLER_THREAD_NAME);
+        this.samplerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts sampling the running strands. This is invoked at the start of the main method of the instrumented
+     * executable.
+     *
+     * @param intervalMillis time between two samples in milliseconds
+     */
+    public static synchronized void start(int intervalMillis) {
+        if (instance != null) {
+            return;
+        }
+        instance = new SamplingProfiler(intervalMillis, Scheduler::getWorkerThreads,
+                SamplingProfiler::isModulePackage);
+        instance.startSampling();
+        Runtime.getRuntime().addShutdownHook(new Thread(instance::stop));
+    }
+
+    void startSampling() {
+        samplerThread.start();
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            sample();
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void stop() {
+        stopSampling();
+        printProfilerOutput(getProfileStackString());
+    }
+
+    void stopSampling() {
+        running = false;
+        samplerThread.interrupt();
+        try {
+            samplerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isSampling() {
+        return samplerThread.isAlive();
+    }
+
+    private void sample() {
+        for (Thread thread : workerThreads.get()) {
+            // Parked workers are either idle or waiting on a blocked strand, hence they are not on the CPU.
+            if (thread.getState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+            StackTraceElement[] frames = thread.getStackTrace();
+            int depth = 0;
+            for (int i = frames.length - 1; i >= 0; i--) {
+                StackTraceElement frame = frames[i];
+                if (!isBallerinaFrame(frame)) {
+                    continue;
+                }
+                if (depth == stackBuffer.length) {
+                    stackBuffer = Arrays.copyOf(stackBuffer, depth * 2);
+                }
+                stackBuffer[depth++] = getFrameId(frame);
+            }
+            int node = ROOT_NODE;
+            for (int i = 0; i < depth; i++) {
+                node = getChildNode(node, stackBuffer[i]);
+                nodeSamples[node]++;
+            }
+        }
+    }
+
+    private boolean isBallerinaFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        String methodName = frame.getMethodName();
+        if (className.contains(GENERATED_MARKER) || methodName.contains(GENERATED_MARKER) ||
+                methodName.startsWith(LAMBDA_PREFIX) || methodName.startsWith(JAVA_LAMBDA_PREFIX)) {
+            return false;
+        }
+        int packageEnd = className.lastIndexOf('.');
+        if (packageEnd == -1) {
+            return false;
+        }
+        if (methodName.equals(JAVA_MAIN_METHOD) && className.endsWith(MODULE_INIT_CLASS)) {
+            return false;
+        }
+        return modulePackages.computeIfAbsent(className.substring(0, packageEnd), modulePackageFilter::test);
+    }
+
+    // Only the classes generated for Ballerina modules are profiled, and each such package has a module init class.
+    private static boolean isModulePackage(String packageName) {
+        try {
+            Class.forName(packageName + "." + MODULE_INIT_CLASS, false, ClassLoader.getSystemClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private int getFrameId(StackTraceElement frame) {
+        String frameName = frame.getClassName().replace('.', '/') + "." + frame.getMethodName();
+        Integer frameId = frameIds.get(frameName);
+        if (frameId != null) {
+            return frameId;
+        }
+        int newFrameId = frameNames.size();
+        frameIds.put(frameName, newFrameId);
+        frameNames.add(StackTraceMap.decodeStackElement(frameName));
+        return newFrameId;
+    }
+
+    private int getChildNode(int parent, int frameId) {
+        long key = ((long) parent << 32) | frameId;
+        Integer child = childNodes.get(key);
+        if (child != null) {
+            return child;
+        }
+        if (nodeCount == nodeFrames.length) {
+            int capacity = nodeCount * 2;
+            nodeFrames = Arrays.copyOf(nodeFrames, capacity);
+            nodeParents = Arrays.copyOf(nodeParents, capacity);
+            nodeSamples = Arrays.copyOf(nodeSamples, capacity);
+        }
+        int node = nodeCount++;
+        nodeFrames[node] = frameId;
+        nodeParents[node] = parent;
+        childNodes.put(key, node);
+        return node;
+    }
+
+    String getProfileStackString() {
+        StringBuilder sb = new StringBuilder("[");
+        List<String> stackTrace = new ArrayList<>();
+        for (int node = 1; node < nodeCount; node++) {
+            stackTrace.clear();
+            for (int current = node; current != ROOT_NODE; current = nodeParents[current]) {
+                stackTrace.add(frameNames.get(nodeFrames[current]));
+            }
+            if (node > 1) {
+                sb.append(",");
+            }
+            sb.append("\n{\"time\": \"").append(nodeSamples[node] * intervalMillis).append("\", \"stackTrace\": [");
+            for (int i = stackTrace.size() - 1; i >= 0; i--) {
+                sb.append("\"").append(stackTrace.get(i)).append(i == 0 ? "\"" : "\",");
+            }
+            sb.append("]}");
+        }
+        sb.append("\n]");
+        return sb.toString();
+    }
+
+    private void printProfilerOutput(String dataStream) {
+        try (Writer myWriter = new FileWriter(CPU_PRE_JSON, StandardCharsets.UTF_8)) {
+            myWriter.write(dataStream);
+        } catch (IOException e) {
+            throw new ProfilerRuntimeException("Error occurred while writing to the " + CPU_PRE_JSON + " file");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for the {@link SamplingProfiler}.
+ *
+ * @since 2201.10.0
+ */
+public class SamplingProfilerTest {
+
+    private static final String TEST_PACKAGE = SamplingProfilerTest.class.getPackageName();
+    private static final String FRAME_PREFIX = SamplingProfilerTest.class.getName().replace('.', '/') + ".";
+
+    @Test
+    public void testSampledStacksAreRecorded() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean(false);
+        Thread worker = new Thread(() -> outer(started, done));
+        worker.start();
+        started.await();
+
+        SamplingProfiler profiler = new SamplingProfiler(1, () -> List.of(worker), TEST_PACKAGE::equals);
+        profiler.startSampling();
+        Assert.assertTrue(profiler.isSampling());
+        Thread.sleep(100);
+        profiler.stopSampling();
+        done.set(true);
+        worker.join();
+
+        Assert.assertFalse(profiler.isSampling());
+        String profile = profiler.getProfileStackString();
+        // The samples are folded into a call tree, hence both the caller and the callee have a node.
+        Assert.assertTrue(profile.contains(FRAME_PREFIX + "outer\"]"), profile);
+        Assert.assertTrue(profile.contains(FRAME_PREFIX + "outer\",\"" + FRAME_PREFIX + "inner\"]"), profile);
+        Assert.assertFalse(profile.contains(FRAME_PREFIX + "testSampledStacksAreRecorded"), profile);
+    }
+
+    @Test
+    public void testWaitingThreadsAreNotSampled() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Thread worker = new Thread(() -> await(done));
+        worker.start();
+        while (worker.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        SamplingProfiler profiler = new SamplingProfiler(1, () -> List.of(worker), TEST_PACKAGE::equals);
+        profiler.startSampling();
+        Thread.sleep(50);
+        profiler.stopSampling();
+        done.countDown();
+        worker.join();
+
+        Assert.assertFalse(profiler.isSampling());
+        Assert.assertEquals(profiler.getProfileStackString(), "[\n]");
+    }
+
+    private static void outer(CountDownLatch started, AtomicBoolean done) {
+        inner(started, done);
+    }
+
+    private static void inner(CountDownLatch started, AtomicBoolean done) {
+        started.countDown();
+        while (!done.get()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch done) {
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -59,6 +59,8 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_RUN_QUEUE_ENV_VAR = "BALLERINA_SCHEDULER_RUN_QUEUE";
+    public static final String BALLERINA_SCHEDULER_THREADS_ENV_VAR = "BALLERINA_SCHEDULER_THREADS";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -34,6 +34,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.JsonArrayElementIterator;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonInternalUtils;
 import io.ballerina.runtime.internal.JsonParser;
@@ -51,6 +52,7 @@ import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -147,6 +149,39 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Returns an iterator which parses the elements of the JSON array in the given {@link InputStream} one at a time.
+     * Only the element being parsed is held in memory, hence arrays larger than the available memory can be
+     * processed. Each element is converted to the given element type, and a {@link BError} is thrown by the iterator
+     * for any parsing or conversion error. The user needs to close the {@link InputStream}.
+     *
+     * @param in          input stream which contains the JSON array
+     * @param charsetName the character set name of the input stream
+     * @param elementType type of the array elements
+     * @return iterator over the array elements
+     * @throws BError for any error in reading the input stream
+     * @since 2201.10.0
+     */
+    public static Iterator<Object> parseArrayElements(InputStream in, String charsetName, Type elementType)
+            throws BError {
+        return JsonParser.parseArrayElements(in, charsetName, elementType);
+    }
+
+    /**
+     * Returns an iterator which parses the elements of the JSON array in the given {@link Reader} one at a time.
+     * Only the element being parsed is held in memory, hence arrays larger than the available memory can be
+     * processed. Each element is converted to the given element type, and a {@link BError} is thrown by the iterator
+     * for any parsing or conversion error. The user needs to close the {@link Reader}.
+     *
+     * @param reader      reader which contains the JSON array
+     * @param elementType type of the array elements
+     * @return iterator over the array elements
+     * @since 2201.10.0
+     */
+    public static Iterator<Object> parseArrayElements(Reader reader, Type elementType) {
+        return new JsonArrayElementIterator(reader, elementType);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -25,6 +25,7 @@ import io.ballerina.runtime.internal.JsonParser;
 import io.ballerina.runtime.internal.ValueConverter;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * This class provides APIs needed for the type conversion in Ballerina.
@@ -62,4 +63,21 @@ public class ValueUtils {
     public static Object parse(InputStream in, Type targetType) throws BError {
         return JsonParser.parse(in, targetType);
     }
+
+    /**
+     * Parses the UTF-8 encoded content in the given byte buffer, from its position to its limit, and creates a value
+     * using a subtype of {@link AnydataType} given by the target type. The content is decoded while it is parsed, so
+     * the bytes do not need to be converted to a string first. The content should only contain a sequence of
+     * characters that can be parsed as {@link io.ballerina.runtime.api.types.JsonType}, otherwise a {@link BError}
+     * is thrown.
+     *
+     * @param   bytes       byte buffer which contains the value content
+     * @param   targetType  target type
+     * @return              created value
+     * @throws              BError if the conversion fails.
+     * @since 2201.10.0
+     */
+    public static Object parse(ByteBuffer bytes, Type targetType) throws BError {
+        return JsonParser.parse(bytes, targetType);
+    }
 }
@@ -22,12 +22,14 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.XmlElementIterator;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Iterator;
 
 /**
  * Class {@link XmlUtils} provides APIs to handle xml values.
@@ -89,6 +91,39 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Returns an iterator which reads the elements with the given name from an XML document one at a time. Only the
+     * element being returned is built, hence documents larger than the available memory can be processed. Elements
+     * nested inside a returned element are not returned separately. A {@link BError} is thrown by the iterator for
+     * any parsing error. The user needs to close the {@link InputStream}.
+     *
+     * @param xmlStream   XML input stream
+     * @param charset     Charset to be used for parsing
+     * @param elementName expanded name of the elements, i.e. {@code {namespace-uri}local-name} or
+     *                    {@code local-name} for elements without a namespace
+     * @return iterator over the matching elements
+     * @since 2201.10.0
+     */
+    public static Iterator<BXml> parseElements(InputStream xmlStream, String charset, String elementName) {
+        return XmlFactory.parseElements(xmlStream, charset, elementName);
+    }
+
+    /**
+     * Returns an iterator which reads the elements with the given name from an XML document one at a time. Only the
+     * element being returned is built, hence documents larger than the available memory can be processed. Elements
+     * nested inside a returned element are not returned separately. A {@link BError} is thrown by the iterator for
+     * any parsing error. The user needs to close the {@link Reader}.
+     *
+     * @param reader      XML reader
+     * @param elementName expanded name of the elements, i.e. {@code {namespace-uri}local-name} or
+     *                    {@code local-name} for elements without a namespace
+     * @return iterator over the matching elements
+     * @since 2201.10.0
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String elementName) {
+        return new XmlElementIterator(reader, elementName);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
@@ -19,55 +19,278 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is held either exclusively by a single strand, which may acquire it again, or shared by any number of
+ * strands running read-only lock statements. Uncontended acquisition and release only update the lock state with a
+ * CAS. A strand that cannot acquire the lock is queued and yields, and the queue is only touched by the slow path,
+ * which records the contention metrics of the lock. While a strand is queued to acquire the lock exclusively, other
+ * strands do not start sharing it, so that a steady stream of readers cannot starve a writer.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final int FREE = 0;
+    private static final int EXCLUSIVE = -1;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final String moduleName;
+    private final String lockName;
+
+    // FREE, EXCLUSIVE or the number of shared holds
+    private final AtomicInteger state = new AtomicInteger(FREE);
+    private volatile Strand owner;
+    private int exclusiveHoldCount;
+
+    private final ArrayDeque<Waiter> waitingForLock = new ArrayDeque<>();
+    private volatile int waitingCount;
+    // number of queued strands waiting to acquire the lock exclusively
+    private volatile int exclusiveWaitingCount;
+
+    private volatile long contentionCount;
+    private volatile long totalWaitTimeNanos;
+    private volatile boolean metricsRegistered;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null, null);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    public BLock(String moduleName, String lockName) {
+        this.moduleName = moduleName;
+        this.lockName = lockName;
+    }
+
+    /**
+     * Acquires the lock exclusively for the given strand.
+     *
+     * @param strand strand running the lock statement
+     * @return true if the lock is acquired, false if the strand has to yield and retry
+     */
+    public boolean lock(Strand strand) {
+        if (this.owner == strand) {
+            this.exclusiveHoldCount++;
             strand.acquiredLockCount++;
             return true;
         }
+        if (tryAcquire(strand)) {
+            return true;
+        }
+        return lockSlow(strand, false);
+    }
 
-        this.waitingForLock.offerLast(strand);
+    /**
+     * Acquires the lock for the given strand, sharing it with other strands that only read the variables guarded by
+     * the lock. A strand that already holds the lock exclusively acquires it again exclusively.
+     *
+     * @param strand strand running the read-only lock statement
+     * @return true if the lock is acquired, false if the strand has to yield and retry
+     */
+    public boolean lockShared(Strand strand) {
+        if (this.owner == strand) {
+            this.exclusiveHoldCount++;
+            strand.acquiredLockCount++;
+            return true;
+        }
+        if (tryAcquireShared(strand)) {
+            return true;
+        }
+        return lockSlow(strand, true);
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
+    public void unlock() {
+        // unlock cannot be called without lock being called first, hence the owner is the current strand.
+        Strand currentOwner = this.owner;
+        currentOwner.acquiredLockCount--;
+        if (--this.exclusiveHoldCount > 0) {
+            return;
+        }
+        this.owner = null;
+        this.state.set(FREE);
+        unblockWaiting();
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        Strand removedStrand = this.current.removeLast();
-        removedStrand.acquiredLockCount--;
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+    /**
+     * Releases a lock acquired with {@link #lockShared(Strand)}.
+     *
+     * @param strand strand leaving the read-only lock statement
+     */
+    public void unlockShared(Strand strand) {
+        if (this.owner == strand) {
+            // acquired again within an exclusive lock statement of the same strand
+            unlock();
+            return;
+        }
+        strand.acquiredLockCount--;
+        if (this.state.decrementAndGet() == FREE) {
+            unblockWaiting();
         }
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.state.get() == FREE;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner == ctx;
+    }
+
+    /**
+     * Returns the number of times a strand had to wait for this lock.
+     *
+     * @return number of contended acquisitions
+     */
+    public long getContentionCount() {
+        return this.contentionCount;
+    }
+
+    /**
+     * Returns the total time strands have been waiting for this lock until they were resumed.
+     *
+     * @return wait time in nanoseconds
+     */
+    public long getTotalWaitTimeNanos() {
+        return this.totalWaitTimeNanos;
+    }
+
+    /**
+     * Returns the number of strands currently waiting for this lock.
+     *
+     * @return wait queue length
+     */
+    public int getQueueLength() {
+        return this.waitingCount;
+    }
+
+    private boolean tryAcquire(Strand strand) {
+        if (!this.state.compareAndSet(FREE, EXCLUSIVE)) {
+            return false;
+        }
+        this.owner = strand;
+        this.exclusiveHoldCount = 1;
+        strand.acquiredLockCount++;
+        return true;
+    }
+
+    private boolean tryAcquireShared(Strand strand) {
+        int current;
+        while ((current = this.state.get()) != EXCLUSIVE) {
+            // A strand that already holds a lock may hold this one shared as well, hence it is not made to wait
+            // behind a queued writer that would in turn wait for it.
+            if (this.exclusiveWaitingCount > 0 && strand.acquiredLockCount == 0) {
+                return false;
+            }
+            if (this.state.compareAndSet(current, current + 1)) {
+                strand.acquiredLockCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean lockSlow(Strand strand, boolean shared) {
+        synchronized (this) {
+            // The strand is queued before trying again, so that a release that happens in between either lets it
+            // acquire the lock here or finds it in the queue.
+            this.waitingForLock.offerLast(new Waiter(strand, shared, System.nanoTime()));
+            this.waitingCount++;
+            if (!shared) {
+                this.exclusiveWaitingCount++;
+            }
+            if (shared ? tryAcquireShared(strand) : tryAcquire(strand)) {
+                this.waitingForLock.removeLast();
+                this.waitingCount--;
+                if (!shared) {
+                    this.exclusiveWaitingCount--;
+                }
+                return true;
+            }
+            this.contentionCount++;
+
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+
+            // A free lock is only refused to a strand because of a queued writer, which is not resumed by a
+            // release anymore, hence the head of the queue is resumed here.
+            if (this.state.get() == FREE) {
+                resumeNext();
+            }
+        }
+        registerMetrics();
+        return false;
+    }
+
+    private void unblockWaiting() {
+        if (this.waitingCount == 0) {
+            return;
+        }
+        synchronized (this) {
+            resumeNext();
+        }
+    }
+
+    private void resumeNext() {
+        Waiter waiter = this.waitingForLock.pollFirst();
+        if (waiter == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long waitTime = now - waiter.since;
+        resume(waiter);
+        // Strands waiting to share the lock do not exclude each other, hence they are resumed together.
+        while (waiter.shared && !this.waitingForLock.isEmpty() && this.waitingForLock.peekFirst().shared) {
+            waiter = this.waitingForLock.pollFirst();
+            waitTime += now - waiter.since;
+            resume(waiter);
+        }
+        this.totalWaitTimeNanos += waitTime;
+    }
+
+    private void resume(Waiter waiter) {
+        this.waitingCount--;
+        if (!waiter.shared) {
+            this.exclusiveWaitingCount--;
+        }
+        waiter.strand.scheduler.unblockStrand(waiter.strand);
+    }
+
+    private void registerMetrics() {
+        if (this.metricsRegistered || this.lockName == null || !ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        // Only contended locks are reported, to keep the number of metrics small.
+        if (registry.getMetricProvider() instanceof NoOpMetricProvider) {
+            return;
+        }
+        synchronized (this) {
+            if (this.metricsRegistered) {
+                return;
+            }
+            this.metricsRegistered = true;
+        }
+        String module = this.moduleName == null ? "" : this.moduleName;
+        PolledGauge.builder("lock_contentions_total", this, BLock::getContentionCount)
+                .description("Number of times a strand had to wait for the lock")
+                .tag("module", module).tag("lock", this.lockName).register(registry);
+        PolledGauge.builder("lock_wait_time_nanos_total", this, BLock::getTotalWaitTimeNanos)
+                .description("Total time strands waited for the lock")
+                .tag("module", module).tag("lock", this.lockName).register(registry);
+        PolledGauge.builder("lock_queue_length", this, BLock::getQueueLength)
+                .description("Number of strands waiting for the lock")
+                .tag("module", module).tag("lock", this.lockName).register(registry);
+    }
+
+    private record Waiter(Strand strand, boolean shared, long since) {
     }
 }
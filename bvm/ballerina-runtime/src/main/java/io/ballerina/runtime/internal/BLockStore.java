@@ -36,18 +36,29 @@ public class BLockStore {
      */
     private  Map<String, BLock> globalLockMap;
 
+    private final String moduleName;
+
     public BLockStore() {
+        this(null);
+    }
+
+    public BLockStore(String moduleName) {
+        this.moduleName = moduleName;
         globalLockMap = new ConcurrentHashMap<>();
     }
 
     public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+        globalLockMap.put(lockName, new BLock(moduleName, lockName));
     }
 
     public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+        // The lock is looked up on every lock and unlock, and is only created once, hence the lookup is tried first
+        // to avoid the bin locking of computeIfAbsent.
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
+        }
+        return globalLockMap.computeIfAbsent(lockName, (k) -> new BLock(moduleName, k));
     }
 
     public void panicIfInLock(Strand strand) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pulls the elements of a top level JSON array one at a time, converting each to the given element type. Only the
+ * current element is held in memory, hence arrays that do not fit in memory as a whole can be processed element by
+ * element. Each element is parsed with {@link JsonParser}, through a reader which ends at the element's boundary.
+ *
+ * @since 2201.10.0
+ */
+public class JsonArrayElementIterator implements Iterator<Object> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int START = 0;
+    private static final int AFTER_OPEN_BRACKET = 1;
+    private static final int ELEMENT_READY = 2;
+    private static final int AFTER_ELEMENT = 3;
+    private static final int DONE = 4;
+
+    private final Reader reader;
+    private final Type elementType;
+    private final ElementReader elementReader = new ElementReader();
+    private final char[] buff = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private int state = START;
+
+    public JsonArrayElementIterator(Reader reader, Type elementType) {
+        this.reader = reader;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public boolean hasNext() throws BError {
+        switch (state) {
+            case ELEMENT_READY:
+                return true;
+            case DONE:
+                return false;
+            case START:
+                if (skipWhitespace() != '[') {
+                    throw createError("expected '['");
+                }
+                pos++;
+                state = AFTER_OPEN_BRACKET;
+                return hasNext();
+            case AFTER_OPEN_BRACKET:
+                if (skipWhitespace() == ']') {
+                    pos++;
+                    finish();
+                    return false;
+                }
+                break;
+            default:
+                int ch = skipWhitespace();
+                if (ch == ']') {
+                    pos++;
+                    finish();
+                    return false;
+                }
+                if (ch != ',') {
+                    throw createError("expected ',' or ']'");
+                }
+                pos++;
+                if (skipWhitespace() == ']') {
+                    throw createError("unrecognized token ']'");
+                }
+                break;
+        }
+        if (peek() < 0) {
+            throw createError("unexpected end of the input stream");
+        }
+        state = ELEMENT_READY;
+        return true;
+    }
+
+    @Override
+    public Object next() throws BError {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        state = AFTER_ELEMENT;
+        elementReader.begin();
+        return JsonParser.parse(elementReader, elementType);
+    }
+
+    private void finish() {
+        state = DONE;
+        if (skipWhitespace() >= 0) {
+            throw createError("unrecognized token '" + (char) peek() + "' after the end of the array");
+        }
+    }
+
+    private int skipWhitespace() {
+        int ch = peek();
+        while (ch >= 0 && StateMachine.isWhitespace((char) ch)) {
+            pos++;
+            ch = peek();
+        }
+        return ch;
+    }
+
+    private int peek() {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buff[pos];
+    }
+
+    private boolean fill() {
+        try {
+            int count = reader.read(buff, 0, buff.length);
+            pos = 0;
+            limit = Math.max(count, 0);
+            return count > 0;
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    private static BError createError(String message) {
+        return ErrorCreator.createError(StringUtils.fromString(message));
+    }
+
+    /**
+     * Reads the characters of the current element from the shared buffer and reports the end of the input at the
+     * first ',', ']' or whitespace which is not nested in the element or inside a string.
+     */
+    private class ElementReader extends Reader {
+
+        private int depth;
+        private char quoteChar;
+        private boolean escaped;
+        private boolean started;
+
+        void begin() {
+            depth = 0;
+            started = false;
+            quoteChar = 0;
+            escaped = false;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            int n = 0;
+            while (n < len) {
+                if (pos == limit && (n > 0 || !fill())) {
+                    break;
+                }
+                char ch = buff[pos];
+                if (quoteChar != 0) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (ch == '\\') {
+                        escaped = true;
+                    } else if (ch == quoteChar) {
+                        quoteChar = 0;
+                    }
+                } else if (ch == '"' || ch == '\'') {
+                    quoteChar = ch;
+                } else if (ch == '{' || ch == '[') {
+                    depth++;
+                } else if (ch == '}' || ch == ']') {
+                    if (depth == 0) {
+                        break;
+                    }
+                    depth--;
+                } else if (depth == 0 && (ch == ',' || (started && StateMachine.isWhitespace(ch)))) {
+                    break;
+                }
+                started = true;
+                cbuf[off + n++] = ch;
+                pos++;
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        @Override
+        public void close() {
+            // The underlying reader is owned by the enclosing iterator.
+        }
+    }
+}
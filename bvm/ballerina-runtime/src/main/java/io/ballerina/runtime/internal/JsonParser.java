@@ -63,10 +63,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -76,7 +79,8 @@ import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
 import static io.ballerina.runtime.internal.ErrorUtils.createConversionError;
-import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithoutDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.populateDefaultValues;
 
 /**
  * This class represents a {@link InputStream} parser which creates a value of the given target type
@@ -114,14 +118,53 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        return parse(getReader(in, charsetName), targetType);
+    }
+
+    /**
+     * Returns an iterator which parses the elements of the JSON array in the given {@link InputStream} one at a
+     * time, as values of the given element type.
+     *
+     * @param in          input stream which contains the JSON array
+     * @param charsetName the character set name of the input stream
+     * @param elementType type of the array elements
+     * @return iterator over the array elements
+     * @throws BError for any parsing error
+     */
+    public static Iterator<Object> parseArrayElements(InputStream in, String charsetName, Type elementType)
+            throws BError {
+        return new JsonArrayElementIterator(getReader(in, charsetName), elementType);
+    }
+
+    private static Reader getReader(InputStream in, String charsetName) throws BError {
+        if (isUtf8(charsetName)) {
+            return new Utf8Reader(in);
+        }
         try {
-            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+            return new InputStreamReader(new BufferedInputStream(in), charsetName);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(("error in parsing input stream: "
                                                                    + e.getMessage())));
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link ByteBuffer} and returns a value of the given target type.
+     * The bytes are decoded while parsing, without first materializing the whole content as a string.
+     *
+     * @param bytes buffer which contains the content, from its position to its limit
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer bytes, Type targetType) throws BError {
+        return parse(new Utf8Reader(bytes), targetType);
+    }
+
+    private static boolean isUtf8(String charsetName) {
+        return StandardCharsets.UTF_8.name().equalsIgnoreCase(charsetName)
+                || StandardCharsets.UTF_8.aliases().contains(charsetName);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -407,12 +450,13 @@ public class JsonParser {
 
         private void processRecordType(Type targetType) throws ParserException {
             BRecordType recordType = (BRecordType) targetType;
-            BMap<BString, Object> constructedMap = (BMap<BString, Object>) this.currentJsonNode;
+            // The fields are parsed directly into the record value, only the default values are populated here.
+            BMap<BString, Object> recordValue = (BMap<BString, Object>) this.currentJsonNode;
             List<String> notProvidedFields = new ArrayList<>();
             for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
                 String fieldName = stringFieldEntry.getKey();
                 BString bFieldName = StringUtils.fromString(fieldName);
-                if (constructedMap.containsKey(bFieldName)) {
+                if (recordValue.containsKey(bFieldName)) {
                     continue;
                 }
                 long fieldFlags = stringFieldEntry.getValue().getFlags();
@@ -424,15 +468,10 @@ public class JsonParser {
                     notProvidedFields.add(fieldName);
                 }
             }
-            BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
-                    recordType.getName(), notProvidedFields);
-            for (Map.Entry<BString, Object> fieldEntry : constructedMap.entrySet()) {
-                recordValue.populateInitialValue(fieldEntry.getKey(), fieldEntry.getValue());
-            }
+            populateDefaultValues(recordValue, recordType, notProvidedFields);
             if (recordType.isReadOnly()) {
                 recordValue.freezeDirect();
             }
-            this.currentJsonNode = recordValue;
         }
 
         private void processJsonAnydataType() {
@@ -463,8 +502,9 @@ public class JsonParser {
         private void initializeCurrentJsonNodeForObject(Type targetType) throws ParserException {
             int targetTypeTag = targetType.getTag();
             switch (targetTypeTag) {
-                case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG ->
-                        this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.MAP_TAG -> this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.RECORD_TYPE_TAG -> this.currentJsonNode = createRecordValueWithoutDefaultValues(
+                        ((BRecordType) targetType).getPackage(), targetType.getName());
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (targetType.isReadOnly() && (targetTypeTag == TypeTags.JSON_TAG ||
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Bounded cache of the results of type-only subtype checks, keyed by the identity of the source and the target type.
+ * Types are shared after they are initialized, hence a check between the same pair of types always gives the same
+ * result and the structural walk through records, unions, tuples and objects has to be done only once.
+ * <p>
+ * Types are completed in place while they are being initialized, hence the type setters that change the structure of
+ * an existing type invalidate the cache through {@link #invalidate()}. Constructors do not, since a type that is still
+ * being constructed cannot be part of a cached pair. Each result is stored with the epoch of the cache at which its
+ * check started, so a result computed while a type was being changed is never used.
+ * <p>
+ * Types are held weakly, so the cache does not keep the types of unloaded modules alive.
+ *
+ * @since 2201.10.0
+ */
+public final class TypeCheckCache {
+
+    public static final int MAX_SIZE = 4096;
+
+    // epoch of the check shifted left by one, with the result in the lowest bit
+    private static final Map<TypePairKey, Long> results = new ConcurrentHashMap<>();
+    private static final AtomicLong epoch = new AtomicLong();
+    private static final ReferenceQueue<Type> collectedTypes = new ReferenceQueue<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final AtomicBoolean metricsRegistered = new AtomicBoolean(false);
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type, computing and
+     * caching it with the given check if needed.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @param check      subtype check to use on a cache miss
+     * @return true if the source type is a subtype of the target type
+     */
+    public static boolean checkIsType(Type sourceType, Type targetType, BiPredicate<Type, Type> check) {
+        if (!isCacheable(sourceType, targetType)) {
+            return check.test(sourceType, targetType);
+        }
+        registerMetrics();
+        long currentEpoch = epoch.get();
+        Long result = results.get(new LookupKey(sourceType, targetType));
+        if (result != null && result >>> 1 == currentEpoch) {
+            hits.increment();
+            return (result & 1) == 1;
+        }
+        misses.increment();
+        boolean isType = check.test(sourceType, targetType);
+        expungeCollectedTypes();
+        if (results.size() >= MAX_SIZE) {
+            evict();
+        }
+        // A type changed during the check makes the result stale. Such a result is not stored, and one stored
+        // concurrently with the change is ignored by later lookups as its epoch is outdated.
+        if (epoch.get() == currentEpoch) {
+            results.put(new WeakKey(sourceType, targetType, collectedTypes), currentEpoch << 1 | (isType ? 1 : 0));
+        }
+        return isType;
+    }
+
+    /**
+     * Removes all the cached results. This has to be called whenever the structure of an existing type is changed.
+     */
+    public static void invalidate() {
+        epoch.incrementAndGet();
+        if (!results.isEmpty()) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results, including the ones of types that are collected but not removed yet.
+     *
+     * @return number of cached results
+     */
+    public static int size() {
+        return results.size();
+    }
+
+    private static boolean isCacheable(Type sourceType, Type targetType) {
+        // Checks between simple basic types are resolved by comparing tags, which is cheaper than a lookup.
+        return sourceType != targetType &&
+                (sourceType.getTag() > TypeTags.NULL_TAG || targetType.getTag() > TypeTags.NULL_TAG);
+    }
+
+    private static void expungeCollectedTypes() {
+        Reference<? extends Type> reference;
+        while ((reference = collectedTypes.poll()) != null) {
+            results.remove(((TypeReference) reference).key);
+        }
+    }
+
+    private static void evict() {
+        // The map is not ordered, hence this removes an arbitrary entry. This is enough to keep the cache bounded
+        // without having to maintain an access order on every lookup.
+        Iterator<TypePairKey> iterator = results.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static void registerMetrics() {
+        if (metricsRegistered.get() || !ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        // The metric provider is set once the observe module is initialized.
+        if (registry.getMetricProvider() instanceof NoOpMetricProvider || !metricsRegistered.compareAndSet(false,
+                true)) {
+            return;
+        }
+        PolledGauge.builder("type_check_cache_hits_total", hits, LongAdder::doubleValue)
+                .description("Number of subtype check cache hits").register(registry);
+        PolledGauge.builder("type_check_cache_misses_total", misses, LongAdder::doubleValue)
+                .description("Number of subtype check cache misses").register(registry);
+        PolledGauge.builder("type_check_cache_evictions_total", evictions, LongAdder::doubleValue)
+                .description("Number of results evicted from the subtype check cache").register(registry);
+        PolledGauge.builder("type_check_cache_size", results, Map::size)
+                .description("Number of results in the subtype check cache").register(registry);
+    }
+
+    /**
+     * Pair of types compared by identity, since type equality is itself a structural check. Stored keys hold the types
+     * weakly, while lookups use a short-lived key that holds them strongly.
+     */
+    private abstract static class TypePairKey {
+
+        private final int hash;
+
+        TypePairKey(Type sourceType, Type targetType) {
+            this.hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        abstract Type sourceType();
+
+        abstract Type targetType();
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TypePairKey other) || hash != other.hash) {
+                return false;
+            }
+            Type sourceType = sourceType();
+            return sourceType != null && sourceType == other.sourceType() && targetType() == other.targetType();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class LookupKey extends TypePairKey {
+
+        private final Type sourceType;
+        private final Type targetType;
+
+        LookupKey(Type sourceType, Type targetType) {
+            super(sourceType, targetType);
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        Type sourceType() {
+            return sourceType;
+        }
+
+        @Override
+        Type targetType() {
+            return targetType;
+        }
+    }
+
+    private static final class WeakKey extends TypePairKey {
+
+        private final TypeReference sourceType;
+        private final TypeReference targetType;
+
+        WeakKey(Type sourceType, Type targetType, ReferenceQueue<Type> queue) {
+            super(sourceType, targetType);
+            this.sourceType = new TypeReference(sourceType, this, queue);
+            this.targetType = new TypeReference(targetType, this, queue);
+        }
+
+        @Override
+        Type sourceType() {
+            return sourceType.get();
+        }
+
+        @Override
+        Type targetType() {
+            return targetType.get();
+        }
+    }
+
+    /**
+     * Weak reference to a type of a cached pair, used to remove the pair once the type is collected.
+     */
+    private static final class TypeReference extends WeakReference<Type> {
+
+        private final WeakKey key;
+
+        TypeReference(Type type, WeakKey key, ReferenceQueue<Type> queue) {
+            super(type, queue);
+            this.key = key;
+        }
+    }
+}
@@ -555,6 +555,10 @@ public class TypeChecker {
      * @return flag indicating the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
+        return TypeCheckCache.checkIsType(sourceType, targetType, TypeChecker::checkIsTypeUncached);
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType) {
         return checkIsType(sourceType, targetType, null);
     }
 
@@ -2153,7 +2157,7 @@ public class TypeChecker {
                                            List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion, String varName) {
         Type sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
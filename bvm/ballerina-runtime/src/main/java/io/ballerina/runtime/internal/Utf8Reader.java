@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Reader} which decodes UTF-8 encoded bytes from a {@link ByteBuffer} or an {@link InputStream} directly
+ * into the caller's character buffer. ASCII runs, which make up most of a JSON document, are copied with a single
+ * comparison per byte. Malformed sequences are replaced with {@code U+FFFD} as {@link java.io.InputStreamReader}
+ * does.
+ *
+ * @since 2201.10.0
+ */
+final class Utf8Reader extends Reader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private final InputStream in;
+    private final ByteBuffer bytes;
+    private boolean endOfInput;
+    private char pendingLowSurrogate;
+
+    Utf8Reader(ByteBuffer bytes) {
+        this.in = null;
+        this.bytes = bytes.slice();
+        this.endOfInput = true;
+    }
+
+    Utf8Reader(InputStream in) {
+        this.in = in;
+        this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        this.bytes.flip();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer bytes = this.bytes;
+        int n = off;
+        int end = off + len;
+        if (pendingLowSurrogate != 0) {
+            cbuf[n++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (n < end) {
+            if (!bytes.hasRemaining() && (n > off || !fill())) {
+                break;
+            }
+            int b = bytes.get(bytes.position());
+            if (b >= 0) {
+                cbuf[n++] = (char) b;
+                bytes.position(bytes.position() + 1);
+                continue;
+            }
+            int sequenceLength = sequenceLength(b & 0xFF);
+            if (sequenceLength == 0) {
+                cbuf[n++] = REPLACEMENT_CHAR;
+                bytes.position(bytes.position() + 1);
+                continue;
+            }
+            if (bytes.remaining() < sequenceLength && !endOfInput) {
+                // Avoid blocking for the rest of the sequence when there are characters to return already.
+                if (n > off) {
+                    break;
+                }
+                fill();
+                continue;
+            }
+            int codePoint = decode(bytes, b & 0xFF, sequenceLength);
+            if (codePoint < 0) {
+                cbuf[n++] = REPLACEMENT_CHAR;
+            } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                cbuf[n++] = (char) codePoint;
+            } else {
+                cbuf[n++] = Character.highSurrogate(codePoint);
+                if (n < end) {
+                    cbuf[n++] = Character.lowSurrogate(codePoint);
+                } else {
+                    pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+        return n == off ? -1 : n - off;
+    }
+
+    private static int sequenceLength(int lead) {
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            return 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            return 3;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            return 4;
+        }
+        return 0;
+    }
+
+    /**
+     * Decodes the sequence starting at the current position and advances past it. If the sequence is malformed,
+     * only the lead byte is consumed and {@code -1} is returned.
+     */
+    private static int decode(ByteBuffer bytes, int lead, int sequenceLength) {
+        int start = bytes.position();
+        if (bytes.remaining() < sequenceLength) {
+            bytes.position(start + 1);
+            return -1;
+        }
+        int codePoint = lead & (0xFF >> (sequenceLength + 1));
+        for (int i = 1; i < sequenceLength; i++) {
+            int continuation = bytes.get(start + i);
+            if ((continuation & 0xC0) != 0x80) {
+                bytes.position(start + 1);
+                return -1;
+            }
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+        }
+        if ((sequenceLength == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint)))
+                || (sequenceLength == 4 && (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT
+                || codePoint > Character.MAX_CODE_POINT))) {
+            bytes.position(start + 1);
+            return -1;
+        }
+        bytes.position(start + sequenceLength);
+        return codePoint;
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return bytes.hasRemaining();
+        }
+        bytes.compact();
+        try {
+            int count = in.read(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            if (count < 0) {
+                endOfInput = true;
+            } else {
+                bytes.position(bytes.position() + count);
+            }
+        } finally {
+            bytes.flip();
+        }
+        return bytes.hasRemaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+}
@@ -100,6 +100,29 @@ public class ValueUtils {
         }
     }
 
+    /**
+     * Create a record value using the given package ID and record type name, without populating the default values
+     * of its fields. The caller is expected to populate them once the provided fields are known.
+     *
+     * @param packageId      the package ID where the record type is defined.
+     * @param recordTypeName name of the record type.
+     * @return               value of the record.
+     */
+    public static BMap<BString, Object> createRecordValueWithoutDefaultValues(Module packageId,
+                                                                              String recordTypeName) {
+        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(packageId, false));
+        try {
+            return valueCreator.createRecordValue(recordTypeName);
+        } catch (BError e) {
+            // If record type definition not found, get it from test module.
+            String testLookupKey = ValueCreator.getLookupKey(packageId, true);
+            if (ValueCreator.containsValueCreator(testLookupKey)) {
+                return ValueCreator.getValueCreator(testLookupKey).createRecordValue(recordTypeName);
+            }
+            throw e;
+        }
+    }
+
     private static BMap<BString, Object> getPopulatedRecordValue(ValueCreator valueCreator, String recordTypeName,
                                                                  Set<String> providedFields) {
         MapValue<BString, Object> recordValue = valueCreator.createRecordValue(recordTypeName);
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pulls the elements with a given name out of an XML document one at a time. Only the element being returned is
+ * built, everything around it is skipped while reading, hence documents which do not fit in memory as a whole can
+ * be processed element by element.
+ *
+ * @since 2201.10.0
+ */
+public class XmlElementIterator implements Iterator<BXml> {
+
+    private final XmlTreeBuilder treeBuilder;
+    private final String namespaceUri;
+    private final String localName;
+    private BXml nextElement;
+    private boolean done;
+
+    /**
+     * Creates an iterator over the elements with the given name.
+     *
+     * @param reader      reader which contains the XML document
+     * @param elementName expanded name of the elements, i.e. {@code {namespace-uri}local-name} or
+     *                    {@code local-name} for elements without a namespace
+     */
+    public XmlElementIterator(Reader reader, String elementName) {
+        this.treeBuilder = new XmlTreeBuilder(reader);
+        int nsEnd = elementName.startsWith("{") ? elementName.lastIndexOf('}') : -1;
+        this.namespaceUri = nsEnd < 0 ? "" : elementName.substring(1, nsEnd);
+        this.localName = elementName.substring(nsEnd + 1);
+    }
+
+    @Override
+    public boolean hasNext() throws BError {
+        if (nextElement == null && !done) {
+            nextElement = treeBuilder.parseNextElement(namespaceUri, localName);
+            done = nextElement == null;
+        }
+        return !done;
+    }
+
+    @Override
+    public BXml next() throws BError {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = nextElement;
+        nextElement = null;
+        return element;
+    }
+}
@@ -48,6 +48,7 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.xml.XMLConstants;
@@ -136,6 +137,24 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create an iterator over the elements with the given name in the XML document in the input stream.
+     *
+     * @param xmlStream   XML input stream
+     * @param charset     Charset to be used for parsing
+     * @param elementName expanded name of the elements
+     * @return iterator over the matching elements
+     */
+    public static Iterator<BXml> parseElements(InputStream xmlStream, String charset, String elementName) {
+        try {
+            return new XmlElementIterator(new InputStreamReader(xmlStream, charset), elementName);
+        } catch (BError e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ErrorCreator.createError(StringUtils.fromString(PARSE_ERROR_PREFIX + e.getMessage()));
+        }
+    }
+
     /**
      * Create a XML sequence from string reader.
      *
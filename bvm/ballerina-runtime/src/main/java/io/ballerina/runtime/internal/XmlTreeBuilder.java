@@ -39,6 +39,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import javax.xml.namespace.QName;
@@ -150,6 +151,72 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Reads forward to the next element with the given namespace URI and local name and builds it, leaving the rest
+     * of the document unread. Elements nested inside a returned element are part of it and are not returned again.
+     *
+     * @param namespaceUri namespace URI of the element, empty if the element has no namespace
+     * @param localName    local name of the element
+     * @return the next matching element, or null if the end of the document is reached
+     */
+    public BXml parseNextElement(String namespaceUri, String localName) {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                if (xmlStreamReader.next() == START_ELEMENT && localName.equals(xmlStreamReader.getLocalName())
+                        && namespaceUri.equals(Objects.requireNonNullElse(xmlStreamReader.getNamespaceURI(), ""))) {
+                    return readCurrentElement();
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        return null;
+    }
+
+    private BXml readCurrentElement() throws XMLStreamException {
+        List<BXml> holder = new ArrayList<>(1);
+        siblingDeque.push(holder);
+        readElement(xmlStreamReader);
+        int depth = 1;
+        boolean readNext = false;
+        int next;
+        while (depth > 0) {
+            if (readNext) {
+                readNext = false;
+                next = xmlStreamReader.getEventType();
+            } else {
+                next = xmlStreamReader.next();
+            }
+            switch (next) {
+                case START_ELEMENT:
+                    readElement(xmlStreamReader);
+                    depth++;
+                    break;
+                case END_ELEMENT:
+                    endElement();
+                    depth--;
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    readPI(xmlStreamReader);
+                    break;
+                case COMMENT:
+                    readComment(xmlStreamReader);
+                    break;
+                case CDATA:
+                    readCData(xmlStreamReader);
+                    break;
+                case CHARACTERS:
+                    readText(xmlStreamReader);
+                    readNext = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        siblingDeque.pop();
+        return holder.get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.internal.scheduling;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -51,4 +52,23 @@ public class BLangThreadFactory implements ThreadFactory {
         }
         return t;
     }
+
+    /**
+     * Returns a factory that creates virtual threads with the given name prefix. Virtual threads are accessed
+     * reflectively since the runtime is compiled against a Java version which does not have them.
+     *
+     * @param namePrefix prefix of the thread names
+     * @return virtual thread factory, or {@code null} if virtual threads are not supported by the running JVM
+     */
+    public static ThreadFactory getVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Array backed stack of the {@link FunctionFrame}s of a yielded strand.
+ * <p>
+ * Frames are only pushed and popped by the thread running the strand, hence this is not synchronized, unlike
+ * {@link java.util.Stack}. The backing array is allocated on the first push, since most strands complete without
+ * yielding, and arrays of the initial capacity are pooled per thread once the strand completes.
+ *
+ * @since 2201.10.0
+ */
+public final class FrameStack {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int MAX_POOLED_ARRAYS = 16;
+    private static final ThreadLocal<ArrayPool> ARRAY_POOL = ThreadLocal.withInitial(ArrayPool::new);
+
+    private Object[] frames;
+    private int size;
+
+    /**
+     * Pushes a frame on top of the stack.
+     *
+     * @param frame frame of the yielding function
+     * @return the pushed frame
+     */
+    public Object push(Object frame) {
+        Object[] elements = this.frames;
+        if (elements == null) {
+            elements = ARRAY_POOL.get().take();
+            this.frames = elements;
+        } else if (this.size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length << 1);
+            this.frames = elements;
+        }
+        elements[this.size++] = frame;
+        return frame;
+    }
+
+    /**
+     * Removes and returns the frame on top of the stack.
+     *
+     * @return the frame of the function being resumed
+     */
+    public Object pop() {
+        if (this.size == 0) {
+            throw new IllegalStateException("no function frames to resume");
+        }
+        Object frame = this.frames[--this.size];
+        this.frames[this.size] = null;
+        return frame;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a copy of the frames from the bottom of the stack to the top. This may be called from a thread other
+     * than the one running the strand, in which case the copy may contain {@code null} entries.
+     *
+     * @return frames of the strand
+     */
+    FunctionFrame[] snapshot() {
+        Object[] elements = this.frames;
+        if (elements == null) {
+            return new FunctionFrame[0];
+        }
+        int count = Math.min(this.size, elements.length);
+        FunctionFrame[] snapshot = new FunctionFrame[count];
+        for (int i = 0; i < count; i++) {
+            snapshot[i] = (FunctionFrame) elements[i];
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the backing array to the pool of the current thread. The stack must not be used afterwards.
+     */
+    void release() {
+        Object[] elements = this.frames;
+        if (elements == null) {
+            return;
+        }
+        this.frames = null;
+        Arrays.fill(elements, 0, this.size, null);
+        this.size = 0;
+        if (elements.length == INITIAL_CAPACITY) {
+            ARRAY_POOL.get().offer(elements);
+        }
+    }
+
+    private static final class ArrayPool {
+
+        private final Object[][] arrays = new Object[MAX_POOLED_ARRAYS][];
+        private int count;
+
+        Object[] take() {
+            if (this.count == 0) {
+                return new Object[INITIAL_CAPACITY];
+            }
+            Object[] array = this.arrays[--this.count];
+            this.arrays[this.count] = null;
+            return array;
+        }
+
+        void offer(Object[] array) {
+            if (this.count < MAX_POOLED_ARRAYS) {
+                this.arrays[this.count++] = array;
+            }
+        }
+    }
+}
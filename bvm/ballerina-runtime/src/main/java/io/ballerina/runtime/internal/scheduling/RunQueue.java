@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be executed by the scheduler worker threads.
+ *
+ * @since 2201.10.0
+ */
+interface RunQueue {
+
+    /**
+     * Adds a group that is ready to be executed.
+     *
+     * @param group item group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed by the given worker, waiting if none is available.
+     *
+     * @param workerId index of the worker thread that is requesting work
+     * @return next item group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take(int workerId) throws InterruptedException;
+
+    boolean isEmpty();
+}
@@ -32,14 +32,14 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -64,16 +64,42 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
+    /**
+     * Threads that are currently running the worker loop of any scheduler. These are looked up by tools that
+     * sample the stacks of running strands, such as the sampling mode of the profiler.
+     */
+    private static final Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
     private final Strand previousStrand;
 
     private final AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static final String RUN_QUEUE_WORK_STEALING = "work-stealing";
+    private static final String RUN_QUEUE_SHARED = "shared";
+    private static String runQueueConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_RUN_QUEUE_ENV_VAR);
+
+    private static final String WORKER_THREAD_NAME_PREFIX = "jbal-strand-exec-";
+    private static final String THREADS_VIRTUAL = "virtual";
+    private static final String THREADS_PLATFORM = "platform";
+    private static String threadsConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_THREADS_ENV_VAR);
+
+    /**
+     * Virtual threads are cheap to park, hence blocking Java interop calls do not exhaust the pool unless this many
+     * calls are blocked at the same time.
+     */
+    private static final int VIRTUAL_THREAD_POOL_SIZE = 10000;
+
+    /**
+     * Factory used to create the worker threads as virtual threads. This is {@code null} unless virtual threads
+     * are enabled using the BALLERINA_SCHEDULER_THREADS system variable and are supported by the running JVM.
+     */
+    private static final ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -102,6 +128,7 @@ public class Scheduler {
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads);
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -125,6 +152,10 @@ public class Scheduler {
         return new HashMap<>(currentStrands);
     }
 
+    public static Set<Thread> getWorkerThreads() {
+        return Collections.unmodifiableSet(workerThreads);
+    }
+
     /**
      * Schedules given function by creating a new strand group.
      *
@@ -269,9 +300,15 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            Runnable worker = () -> runSafely(workerId);
+            if (virtualThreadFactory != null) {
+                virtualThreadFactory.newThread(worker).start();
+            } else {
+                new Thread(worker, WORKER_THREAD_NAME_PREFIX + i).start();
+            }
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -282,23 +319,27 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        Thread thread = Thread.currentThread();
+        workerThreads.add(thread);
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            workerThreads.remove(thread);
         }
     }
 
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
         while (true) {
             SchedulerItem item;
             ItemGroup group;
             try {
-                group = runnableList.take();
+                group = runnableList.take(workerId);
             } catch (InterruptedException ignored) {
                 continue;
             }
@@ -393,7 +434,8 @@ public class Scheduler {
 
                 justCompleted.setState(State.DONE);
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
+                List<WaitContext> waitingContexts = justCompleted.waitingContexts;
+                for (WaitContext ctx : waitingContexts == null ? List.<WaitContext>of() : waitingContexts) {
                     ctx.lock();
                     if (!ctx.completed) {
                         if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
@@ -455,7 +497,10 @@ public class Scheduler {
     }
 
     private void cleanUp(Strand justCompleted) {
-        justCompleted.frames = null;
+        if (justCompleted.frames != null) {
+            justCompleted.frames.release();
+            justCompleted.frames = null;
+        }
         justCompleted.waitingContexts = null;
 
         currentStrands.remove(justCompleted.getId());
@@ -464,6 +509,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details : channels) {
             WorkerDataChannel wdChannel;
@@ -513,7 +561,7 @@ public class Scheduler {
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
         FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
+        future.strand.frames = new FrameStack();
         return future;
     }
 
@@ -539,6 +587,9 @@ public class Scheduler {
     }
 
     private static int getPoolSize() {
+        if (virtualThreadFactory != null) {
+            poolSize = VIRTUAL_THREAD_POOL_SIZE;
+        }
         try {
             if (poolSizeConf != null) {
                 poolSize = Integer.parseInt(poolSizeConf);
@@ -551,6 +602,37 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static RunQueue createRunQueue(int numThreads) {
+        // Work stealing scans the deques of all the workers, which does not scale to the number of virtual threads.
+        if (runQueueConf == null || runQueueConf.equals(RUN_QUEUE_SHARED) || numThreads == 1 ||
+                virtualThreadFactory != null) {
+            return new SharedRunQueue();
+        }
+        if (runQueueConf.equals(RUN_QUEUE_WORK_STEALING)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        err.println("ballerina: unsupported value '" + runQueueConf + "' for system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_RUN_QUEUE_ENV_VAR + ", using the shared run queue");
+        return new SharedRunQueue();
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        if (threadsConf == null || threadsConf.equals(THREADS_PLATFORM)) {
+            return null;
+        }
+        if (!threadsConf.equals(THREADS_VIRTUAL)) {
+            err.println("ballerina: unsupported value '" + threadsConf + "' for system variable:" +
+                    RuntimeConstants.BALLERINA_SCHEDULER_THREADS_ENV_VAR + ", using platform threads");
+            return null;
+        }
+        ThreadFactory threadFactory = BLangThreadFactory.getVirtualThreadFactory(WORKER_THREAD_NAME_PREFIX);
+        if (threadFactory == null) {
+            err.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                    "using platform threads");
+        }
+        return threadFactory;
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
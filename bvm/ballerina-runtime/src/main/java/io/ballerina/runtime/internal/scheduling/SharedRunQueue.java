@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * {@link RunQueue} backed by a single blocking queue shared by all the worker threads.
+ *
+ * @since 2201.10.0
+ */
+class SharedRunQueue implements RunQueue {
+
+    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+
+    @Override
+    public void add(ItemGroup group) {
+        runnableList.add(group);
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        return runnableList.take();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return runnableList.isEmpty();
+    }
+}
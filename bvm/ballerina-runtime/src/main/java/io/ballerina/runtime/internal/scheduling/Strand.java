@@ -34,7 +34,6 @@ import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,7 +65,7 @@ public class Strand {
     private final String name;
     private final StrandMetadata metadata;
 
-    public Stack<FunctionFrame> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
@@ -88,7 +87,7 @@ public class Strand {
 
     private Map<String, Object> globalProps;
     public TransactionLocalContext currentTrxContext;
-    public Stack<TransactionLocalContext> trxContexts;
+    private Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
     public BMap<BString, Object> workerReceiveMap = null;
@@ -107,14 +106,10 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
-        this.trxContexts = new Stack<>();
         this.parent = parent;
 
         //TODO: improve by using a copy on write map #26710
@@ -130,7 +125,7 @@ public class Strand {
                   Map<String, Object> properties, TransactionLocalContext currentTrxContext) {
         this(name, metadata, scheduler, parent, properties);
         if (currentTrxContext != null) {
-            this.trxContexts = parent.trxContexts;
+            this.trxContexts = parent.getTrxContexts();
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
         } else {
@@ -194,7 +189,7 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
             globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
@@ -205,12 +200,20 @@ public class Strand {
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
-            this.trxContexts.push(this.currentTrxContext);
+            getTrxContexts().push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
         globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
     }
 
+    private Stack<TransactionLocalContext> getTrxContexts() {
+        // Created on demand, since most strands never take part in a transaction.
+        if (this.trxContexts == null) {
+            this.trxContexts = new Stack<>();
+        }
+        return this.trxContexts;
+    }
+
     public ErrorValue handleFlush(ChannelDetails[] channels) throws Throwable {
         try {
             if (flushDetail == null) {
@@ -290,7 +293,7 @@ public class Strand {
                 ctx.waitCount.decrementAndGet();
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -338,7 +341,7 @@ public class Strand {
                     }
                     future.setWaited(true);
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -365,7 +368,18 @@ public class Strand {
         return ErrorCreator.createError(StringUtils.fromString("multiple waits on the same future is not allowed"));
     }
 
+    private void addWaitingContext(WaitContext ctx) {
+        // Should be called while holding the strand lock.
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         Collections.addAll(this.channelDetails, channels);
     }
 
@@ -473,8 +487,9 @@ public class Strand {
     }
 
     private void getInfoFromYieldedState(StringBuilder strandInfo, String closingBracketWithNewLines) {
-        Stack<FunctionFrame> strandFrames = this.frames;
-        if ((strandFrames == null) || (strandFrames.isEmpty())) {
+        FrameStack frameStack = this.frames;
+        FunctionFrame[] strandFrames = frameStack == null ? null : frameStack.snapshot();
+        if ((strandFrames == null) || (strandFrames.length == 0)) {
             // this means the strand frames is changed, hence the state is runnable
             strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
             return;
@@ -484,22 +499,21 @@ public class Strand {
         String stringPrefix = "\t\tat\t";
         String yieldStatus = "BLOCKED";
         boolean noPickedYieldStatus = true;
-        try {
-            for (FunctionFrame frame : strandFrames) {
-                if (noPickedYieldStatus) {
-                    yieldStatus = frame.yieldStatus;
-                    noPickedYieldStatus = false;
-                }
-                String yieldLocation = frame.yieldLocation;
-                frameStackTrace.append(stringPrefix).append(yieldLocation);
-                frameStackTrace.append("\n");
-                stringPrefix = "\t\t  \t";
+        for (FunctionFrame frame : strandFrames) {
+            if (frame == null) {
+                // frames have been removed while taking the snapshot
+                // that means now the strand state is changed from yielded state to runnable state
+                strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
+                return;
             }
-        } catch (ConcurrentModificationException ce) {
-            // this exception can be thrown when frames get added or removed while it is being iterated
-            // that means now the strand state is changed from yielded state to runnable state
-            strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
-            return;
+            if (noPickedYieldStatus) {
+                yieldStatus = frame.yieldStatus;
+                noPickedYieldStatus = false;
+            }
+            String yieldLocation = frame.yieldLocation;
+            frameStackTrace.append(stringPrefix).append(yieldLocation);
+            frameStackTrace.append("\n");
+            stringPrefix = "\t\t  \t";
         }
         if (!this.isYielded() || noPickedYieldStatus) {
             // if frames have got empty, noPickedYieldStatus is true, then the state has changed to runnable
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link RunQueue} that keeps a separate deque per worker thread. Groups scheduled from a worker thread are added
+ * to that worker's own deque, while groups scheduled from any other thread are added to a shared queue. A worker
+ * first drains its own deque, then the shared queue, and finally steals from the tail of the other workers' deques.
+ * <p>
+ * A group is only ever present in one queue at a time since {@code ItemGroup.scheduled} is checked before adding,
+ * hence the ordering guarantees of the items within a group are not affected by where the group gets queued.
+ *
+ * @since 2201.10.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] localQueues;
+    private final Queue<ItemGroup> sharedQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Integer> currentWorker = new ThreadLocal<>();
+
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ConcurrentLinkedDeque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Integer workerId = currentWorker.get();
+        if (workerId != null) {
+            localQueues[workerId].addLast(group);
+        } else {
+            sharedQueue.add(group);
+        }
+        // Only wake up a worker if there is one waiting, so that the common path stays lock free.
+        if (idleWorkers.get() > 0) {
+            idleLock.lock();
+            try {
+                workAvailable.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public ItemGroup take(int workerId) throws InterruptedException {
+        currentWorker.set(workerId);
+        while (true) {
+            ItemGroup group = poll(workerId);
+            if (group != null) {
+                return group;
+            }
+            idleLock.lockInterruptibly();
+            try {
+                idleWorkers.incrementAndGet();
+                try {
+                    // Need to recheck after announcing that we are idle, since a group may have been added
+                    // without a signal in between the last poll and the increment.
+                    group = poll(workerId);
+                    if (group != null) {
+                        return group;
+                    }
+                    workAvailable.await();
+                } finally {
+                    idleWorkers.decrementAndGet();
+                }
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    private ItemGroup poll(int workerId) {
+        ItemGroup group = localQueues[workerId].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        group = sharedQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        int numWorkers = localQueues.length;
+        for (int i = 1; i < numWorkers; i++) {
+            group = localQueues[(workerId + i) % numWorkers].pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!sharedQueue.isEmpty()) {
+            return false;
+        }
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            if (!localQueue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -20,42 +20,51 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.ErrorUtils;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Messages are held in a lock-free queue. Async sends only append to the queue and hand off the parked receiver,
+ * if any, without taking the channel lock. The channel lock still guards the receiving side together with sync
+ * sends, flushes, errors, panics and closing the channel.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final AtomicIntegerFieldUpdater<WorkerDataChannel> CALL_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(WorkerDataChannel.class, "callCount");
+
+    private final AtomicReference<Strand> receiver = new AtomicReference<>();
     private WaitingSender waitingSender;
     private WaitingSender flushSender;
-    private ErrorValue error;
-    private Throwable panic;
-    private int senderCounter;
+    private volatile ErrorValue error;
+    private volatile Throwable panic;
+    private final AtomicInteger senderCounter = new AtomicInteger();
     private int receiverCounter;
     private boolean reschedule;
 
     private final Lock channelLock;
 
     protected String chnlName;
-    protected int callCount = 0;
+    protected volatile int callCount = 0;
 
-    @SuppressWarnings("rawtypes")
-    private final Queue<WorkerResult> channel = new LinkedList<>();
-    private State state;
+    private final Queue<WorkerResult> channel = new ConcurrentLinkedQueue<>();
+    private volatile State state;
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
-        this.senderCounter = 0;
         this.receiverCounter = 0;
         this.state = State.OPEN;
     }
@@ -81,15 +90,27 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.state = state;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
     }
 
+    /**
+     * Resumes the receiver parked on this channel, if any. A receiver is handed off at most once, as it is
+     * atomically removed from the channel.
+     */
+    private void unblockReceiver() {
+        Strand parkedReceiver = this.receiver.getAndSet(null);
+        if (parkedReceiver != null && parkedReceiver.scheduler != null) {
+            parkedReceiver.scheduler.unblockStrand(parkedReceiver);
+        }
+    }
+
+    private void incrementCallCount() {
+        CALL_COUNT.incrementAndGet(this);
+    }
+
     public State getState() {
         return this.state;
     }
@@ -98,24 +119,19 @@ public class WorkerDataChannel {
         OPEN, AUTO_CLOSED, CLOSED
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
         if (isClosed()) {
-            callCount++;
+            incrementCallCount();
             return;
         }
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null && receiver.scheduler != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-            callCount++;
-        } finally {
-            releaseChannelLock();
-        }
+        // The send is counted before the message is published. A receiver that takes the message completes the
+        // message passing and removes the channel only when it sees both the send and the receive counted.
+        incrementCallCount();
+        // The message has to be visible in the queue before the receiver is handed off, since a receiver that
+        // is about to park checks the queue again after publishing itself.
+        this.channel.add(new WorkerResult(data));
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
     }
 
     public void autoClose() {
@@ -140,13 +156,13 @@ public class WorkerDataChannel {
             if (!reschedule) {
                 // this is a new message, not a reschedule
                 this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                this.senderCounter.incrementAndGet();
                 this.waitingSender = new WaitingSender(strand, -1);
 
-                if (this.receiver != null) {
+                Strand parkedReceiver = this.receiver.getAndSet(null);
+                if (parkedReceiver != null) {
                     // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
+                    parkedReceiver.scheduler.unblockStrand(parkedReceiver);
                 } else if (this.panic != null) {
                     Throwable panic = this.panic;
                     this.panic = null;
@@ -165,24 +181,23 @@ public class WorkerDataChannel {
             reschedule = false;
             if (this.panic != null && this.channel.peek() != null) {
                 Throwable e = this.panic;
-                callCount++;
+                incrementCallCount();
                 throw e;
             } else if (this.error != null && this.channel.peek() != null) {
                 ErrorValue ret = this.error;
                 this.waitingSender = null;
-                callCount++;
+                incrementCallCount();
                 return ret;
             }
 
             // sync send done
-            callCount++;
+            incrementCallCount();
             return null;
         } finally {
             releaseChannelLock();
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
         return tryTakeData(strand, false);
     }
@@ -193,53 +208,81 @@ public class WorkerDataChannel {
             if (isClosed()) {
                 return ErrorUtils.createNoMessageError(chnlName);
             }
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    if (this.waitingSender != null) {
-                        Strand waiting = this.waitingSender.waitingStrand;
-                        waiting.scheduler.unblockStrand(waiting);
-                        this.waitingSender = null;
-                    }
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount ==
-                            this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                        //will continue if this is a sync wait, will try to flush again if blocked on flush
-                        this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+            // Only the receiving strand removes messages, and it holds the channel lock while doing so.
+            WorkerResult result = this.channel.poll();
+            if (result == null) {
+                if (this.panic != null && this.senderCounter.get() == this.receiverCounter + 1) {
+                    this.receiverCounter++;
+                    incrementCallCount();
+                    throw this.panic;
+                } else if (this.error != null && this.senderCounter.get() == this.receiverCounter + 1) {
+                    this.receiverCounter++;
+                    incrementCallCount();
+                    return error;
+                } else if (parkReceiver(strand, isMultiple)) {
+                    return null;
                 }
-                callCount++;
-                return isMultiple ? result : result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                callCount++;
-                throw this.panic;
-            } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
-                this.receiverCounter++;
-                callCount++;
-                return error;
-            } else {
-                this.receiver = strand;
-                if (!isMultiple) {
-                    strand.setState(BLOCK_AND_YIELD);
+                // a message arrived while the receiver was parking
+                result = this.channel.poll();
+            }
+
+            this.receiverCounter++;
+
+            if (result.isSync) {
+                // sync sender will pick the this.error as result, which is null
+                if (this.waitingSender != null) {
+                    Strand waiting = this.waitingSender.waitingStrand;
+                    waiting.scheduler.unblockStrand(waiting);
+                    this.waitingSender = null;
                 }
-                return null;
+            } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
+                this.flushSender.waitingStrand.flushDetail.flushLock.lock();
+                this.flushSender.waitingStrand.flushDetail.flushedCount++;
+                if (this.flushSender.waitingStrand.flushDetail.flushedCount ==
+                        this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
+                        this.flushSender.waitingStrand.isBlocked()) {
+                    //will continue if this is a sync wait, will try to flush again if blocked on flush
+                    this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
+
+                }
+                this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
+                this.flushSender = null;
             }
+            incrementCallCount();
+            return isMultiple ? result : result.value;
         } finally {
             releaseChannelLock();
         }
     }
 
+    /**
+     * Parks the receiver on the channel. Async senders do not take the channel lock, hence the receiver is
+     * published first and the queue is checked again afterwards. If a message arrived in between, the receiver
+     * tries to retract itself, which fails only if a sender has already handed it off to the scheduler.
+     *
+     * @param strand     receiving strand
+     * @param isMultiple whether this is a part of a multiple receive
+     * @return true if the receiver stays parked, false if it was retracted and should take a message
+     */
+    private boolean parkReceiver(Strand strand, boolean isMultiple) {
+        if (!isMultiple) {
+            // Set before the receiver is visible to senders, so that an early hand off is turned into a yield.
+            strand.setState(BLOCK_AND_YIELD);
+        }
+        this.receiver.set(strand);
+        if (this.channel.peek() == null) {
+            return true;
+        }
+        if (!this.receiver.compareAndSet(strand, null)) {
+            // a sender is resuming the receiver
+            return true;
+        }
+        if (!isMultiple) {
+            strand.setState(RUNNABLE);
+        }
+        return false;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      *
@@ -248,11 +291,8 @@ public class WorkerDataChannel {
     public void setSendError(ErrorValue error) {
         acquireChannelLock();
         this.error = error;
-        this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        this.senderCounter.incrementAndGet();
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -296,13 +336,13 @@ public class WorkerDataChannel {
                 throw this.panic;
             } else if (this.error != null) {
                 return this.error;
-            } else if (this.receiverCounter == this.senderCounter) {
+            } else if (this.receiverCounter == this.senderCounter.get()) {
                 strand.flushDetail.flushLock.lock();
                 strand.flushDetail.flushedCount++;
                 strand.flushDetail.flushLock.unlock();
                 return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            this.flushSender = new WaitingSender(strand, this.senderCounter.get());
             return null;
         } finally {
             releaseChannelLock();
@@ -324,11 +364,8 @@ public class WorkerDataChannel {
         try {
             acquireChannelLock();
             this.panic = panic;
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            this.senderCounter.incrementAndGet();
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
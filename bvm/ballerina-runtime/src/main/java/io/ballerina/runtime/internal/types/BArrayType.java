@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
@@ -69,7 +70,7 @@ public class BArrayType extends BType implements ArrayType {
 
     public BArrayType(Type elemType, int size, boolean readonly, int typeFlags) {
         this(typeFlags, size, readonly, TypeChecker.hasFillerValue(elemType));
-        setElementType(elemType, 1, elemType.isReadOnly());
+        initElementType(elemType, 1, elemType.isReadOnly());
         setFlagsBasedOnElementType();
     }
 
@@ -85,6 +86,11 @@ public class BArrayType extends BType implements ArrayType {
     }
 
     public void setElementType(Type elementType, int dimensions, boolean elementRO) {
+        initElementType(elementType, dimensions, elementRO);
+        TypeCheckCache.invalidate();
+    }
+
+    private void initElementType(Type elementType, int dimensions, boolean elementRO) {
         this.elementType = readonly && !elementRO ? ReadOnlyUtils.getReadOnlyType(elementType) : elementType;
         this.dimensions = dimensions;
     }
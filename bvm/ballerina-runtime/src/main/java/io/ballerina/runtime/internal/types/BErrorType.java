@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.Optional;
@@ -49,7 +50,12 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        // Errors created with a type id set the same type ids on every creation.
+        boolean unchanged = this.typeIdSet != null && typeIdSet != null && this.typeIdSet.ids.equals(typeIdSet.ids);
         this.typeIdSet = typeIdSet;
+        if (!unchanged) {
+            TypeCheckCache.invalidate();
+        }
     }
 
     @Override
@@ -68,7 +74,12 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
+        // Errors created through the API set the detail type on every creation, mostly to the same type.
+        if (this.detailType == detailType) {
+            return;
+        }
         this.detailType = detailType;
+        TypeCheckCache.invalidate();
     }
 
     @Override
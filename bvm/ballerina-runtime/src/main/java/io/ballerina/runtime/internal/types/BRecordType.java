@@ -32,6 +32,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.ValueUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.values.MapValue;
@@ -183,6 +184,11 @@ public class BRecordType extends BStructureType implements RecordType {
         return this.immutableType;
     }
 
+    public void setRestFieldType(Type restFieldType) {
+        this.restFieldType = restFieldType;
+        TypeCheckCache.invalidate();
+    }
+
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
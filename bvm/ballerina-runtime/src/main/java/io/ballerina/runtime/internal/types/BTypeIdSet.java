@@ -41,6 +41,7 @@ public class BTypeIdSet implements TypeIdSet {
     }
 
     public void add(Module pkg, String name, boolean isPrimary) {
+        // The type ids are added before the set is given to a type, which invalidates the type check cache.
         ids.add(new BTypeId(pkg, name, isPrimary));
     }
 
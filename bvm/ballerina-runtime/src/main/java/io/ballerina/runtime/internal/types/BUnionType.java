@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
@@ -167,6 +168,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeCheckCache.invalidate();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -236,6 +238,11 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
     }
 
     public void addMembers(Type... types) {
+        initMembers(types);
+        TypeCheckCache.invalidate();
+    }
+
+    private void initMembers(Type... types) {
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
@@ -432,9 +439,14 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         return isCyclic;
     }
 
+    /**
+     * Adds the members of the given union type to this union type, which is still being constructed.
+     *
+     * @param unionType union type to merge
+     */
     public void mergeUnionType(BUnionType unionType) {
         if (!unionType.isCyclic) {
-            this.addMembers(unionType.getMemberTypes().toArray(new Type[0]));
+            this.initMembers(unionType.getMemberTypes().toArray(new Type[0]));
             return;
         }
         this.isCyclic = true;
@@ -27,6 +27,10 @@ import io.ballerina.runtime.api.values.BString;
   */
  public class BmpStringValue extends StringValue {
 
+     // Concatenations producing at least this many characters are backed by a builder that later concatenations
+     // can append to, since copying both operands again on every step makes repeated concatenation quadratic.
+     static final int BUILDER_CONCAT_THRESHOLD = 64;
+
      public BmpStringValue(String value) {
          super(value, false);
      }
@@ -45,15 +49,18 @@ import io.ballerina.runtime.api.values.BString;
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
-             int[] newSurrogates = new int[otherSurrogates.length];
+             int[] newSurrogates = ((NonBmpStringValue) str).getSurrogates();
              int length = length();
-             for (int i = 0; i < otherSurrogates.length; i++) {
-                 newSurrogates[i] = otherSurrogates[i] + length;
+             for (int i = 0; i < newSurrogates.length; i++) {
+                 newSurrogates[i] += length;
              }
              return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
          }
-         return new BmpStringValue(this.value + str.getValue());
+         String other = str.getValue();
+         if (this.value.length() + other.length() >= BUILDER_CONCAT_THRESHOLD) {
+             return BuilderStringValue.of(this.value, other);
+         }
+         return new BmpStringValue(this.value + other);
      }
 
      @Override
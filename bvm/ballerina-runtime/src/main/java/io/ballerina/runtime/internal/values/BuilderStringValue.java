@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings containing only unicode basic multilingual plane characters, produced by repeated
+ * concatenation. The characters are kept in a {@link StringBuilder} that may be shared with the value this one was
+ * concatenated from. A value that covers the whole builder appends the next operand in place, so a chain of
+ * concatenations such as {@code s = s + x} in a loop is linear instead of quadratic. The {@link String} form is
+ * materialized lazily on first access and cached.
+ *
+ * @since 2201.10.0
+ */
+public final class BuilderStringValue extends StringValue {
+
+    private final StringBuilder builder;
+    private final int length;
+    private String materialized;
+
+    BuilderStringValue(StringBuilder builder, int length) {
+        super(null, false);
+        this.builder = builder;
+        this.length = length;
+    }
+
+    static BuilderStringValue of(String left, String right) {
+        int length = left.length() + right.length();
+        StringBuilder builder = new StringBuilder(Math.max(length << 1, BmpStringValue.BUILDER_CONCAT_THRESHOLD));
+        builder.append(left).append(right);
+        return new BuilderStringValue(builder, length);
+    }
+
+    @Override
+    public String getValue() {
+        String value = this.materialized;
+        if (value == null) {
+            synchronized (builder) {
+                value = builder.substring(0, length);
+            }
+            this.materialized = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return getValue().charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue other = (StringValue) str;
+        if (other.isNonBmp) {
+            return new BmpStringValue(getValue()).concat(str);
+        }
+        String otherValue = other.getValue();
+        synchronized (builder) {
+            if (builder.length() == length) {
+                // This value owns the tail of the builder, so the operand can be appended without copying.
+                builder.append(otherValue);
+                return new BuilderStringValue(builder, builder.length());
+            }
+        }
+        return of(getValue(), otherValue);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        long index = getValue().indexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        long index = getValue().lastIndexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return new BmpStringValue(getValue().substring(beginIndex, endIndex));
+    }
+}
@@ -62,6 +62,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MAP_LANG_LIB;
@@ -96,10 +97,15 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MapValueImpl, Map> NATIVE_DATA_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(MapValueImpl.class, Map.class, "nativeData");
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Most maps never carry native data, hence the map is created on first use. It is set with a CAS so that
+    // concurrent first uses do not drop each other's data.
+    private volatile Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -645,7 +651,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -654,7 +660,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        Map<String, Object> data = this.nativeData;
+        return data == null ? null : data.get(key);
     }
 
     @Override
@@ -671,7 +678,12 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
-        return this.nativeData;
+        Map<String, Object> data = this.nativeData;
+        if (data == null) {
+            NATIVE_DATA_UPDATER.compareAndSet(this, null, new HashMap<>());
+            data = this.nativeData;
+        }
+        return data;
     }
 
     private void initializeIteratorNextReturnType() {
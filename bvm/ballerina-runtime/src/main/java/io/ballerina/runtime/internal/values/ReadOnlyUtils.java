@@ -243,7 +243,7 @@ public class ReadOnlyUtils {
 
                 Type origRecordRestFieldType = origRecordType.restFieldType;
                 if (origRecordRestFieldType != null) {
-                    immutableRecordType.restFieldType = getImmutableType(origRecordRestFieldType, unresolvedTypes);
+                    immutableRecordType.setRestFieldType(getImmutableType(origRecordRestFieldType, unresolvedTypes));
                 }
 
                 return intersectionType;
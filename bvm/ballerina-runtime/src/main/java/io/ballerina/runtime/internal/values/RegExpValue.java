@@ -20,6 +20,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
 
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +41,7 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private volatile String translatedRegExp;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -50,6 +52,21 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the string value of this regular expression with the Ballerina specific constructs mapped to their
+     * Java equivalents. The translation is done only once per value.
+     *
+     * @return translated regular expression string
+     */
+    public String getTranslatedRegExp() {
+        String translated = this.translatedRegExp;
+        if (translated == null) {
+            translated = RegExpFactory.translateRegExpConstructs(this).stringValue(null);
+            this.translatedRegExp = translated;
+        }
+        return translated;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -63,6 +63,7 @@ import java.util.StringJoiner;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -86,6 +87,10 @@ import static io.ballerina.runtime.internal.util.StringUtils.getStringVal;
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TableValueImpl, Map> NATIVE_DATA_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(TableValueImpl.class, Map.class, "nativeData");
+
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
@@ -103,7 +108,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private boolean nextKeySupported;
 
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Most tables never carry native data, hence the map is created on first use. It is set with a CAS so that
+    // concurrent first uses do not drop each other's data.
+    private volatile Map<String, Object> nativeData;
     private BTypedesc typedesc;
 
     public TableValueImpl(TableType tableType) {
@@ -346,12 +353,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        Map<String, Object> nativeDataMap = this.nativeData;
+        if (nativeDataMap == null) {
+            NATIVE_DATA_UPDATER.compareAndSet(this, null, new HashMap<>());
+            nativeDataMap = this.nativeData;
+        }
+        nativeDataMap.put(key, data);
     }
 
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        Map<String, Object> nativeDataMap = this.nativeData;
+        return nativeDataMap == null ? null : nativeDataMap.get(key);
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Interned name of an XML element. Elements with the same name share an instance, which also caches the expanded
+ * {@code {namespace}local} form used when matching elements in XML navigation, so that the matching neither
+ * allocates nor rehashes strings.
+ *
+ * @since 2201.10.0
+ */
+final class XmlElementName {
+
+    // Bounds the table so that documents with arbitrary element names cannot grow it without limit.
+    private static final int MAX_INTERNED_NAMES = 4096;
+    private static final Map<QName, XmlElementName> INTERNED_NAMES = new ConcurrentHashMap<>();
+
+    private final QName qName;
+    private final String expandedName;
+
+    private XmlElementName(QName qName) {
+        this.qName = qName;
+        this.expandedName = qName.toString();
+    }
+
+    static XmlElementName of(QName qName) {
+        XmlElementName name = INTERNED_NAMES.get(qName);
+        // QName equality ignores the prefix, which is still part of the element name.
+        if (name != null && name.qName.getPrefix().equals(qName.getPrefix())) {
+            return name;
+        }
+        name = new XmlElementName(qName);
+        if (INTERNED_NAMES.size() < MAX_INTERNED_NAMES) {
+            INTERNED_NAMES.putIfAbsent(qName, name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the expanded form of the given element name with an empty namespace removed, i.e.
+     * {@code {}local} is returned as {@code local}.
+     *
+     * @param qname element name in {@code {namespace}local} or {@code local} form
+     * @return the expanded name as returned by {@link #getExpandedName()} for an element with that name
+     */
+    static String toExpandedName(String qname) {
+        if (qname.startsWith("{}")) {
+            return qname.substring(2);
+        }
+        return qname;
+    }
+
+    QName getQName() {
+        return qName;
+    }
+
+    String getExpandedName() {
+        return expandedName;
+    }
+}
@@ -33,16 +33,19 @@ import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
+import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.OMException;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
 import org.apache.axiom.om.OMNode;
 
 import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -52,7 +55,6 @@ import java.util.Set;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
-import javax.xml.stream.XMLStreamException;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_NULL_VALUE;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.XML_LANG_LIB;
@@ -69,14 +71,18 @@ import static io.ballerina.runtime.internal.TypeChecker.isEqual;
  */
 public final class XmlItem extends XmlValue implements BXmlItem {
 
-    private QName name;
+    private XmlElementName name;
     private XmlSequence children;
     private AttributeMapValueImpl attributes;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private List<WeakReference<XmlItem>> probableParents;
+    // Indexes of the children and descendants by name, which are built once the element is navigated repeatedly.
+    private volatile XmlNavigationIndex childIndex;
+    private volatile XmlNavigationIndex descendantIndex;
+    private int navigationCount;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
-        this.name = name;
+        this.name = XmlElementName.of(name);
         this.children = children;
         for (BXml child : children.children) {
             addParent(child, this);
@@ -104,7 +110,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     public XmlItem(QName name, boolean readonly) {
         XmlSequence children = new XmlSequence(new ArrayList<>());
-        this.name = name;
+        this.name = XmlElementName.of(name);
         this.children = children;
         for (BXml child : children.children) {
             addParent(child, this);
@@ -168,15 +174,16 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public String getElementName() {
-        return name.toString();
+        return name.getExpandedName();
     }
 
     public QName getQName() {
-        return this.name;
+        return this.name.getQName();
     }
 
     public void setQName(QName name) {
-        this.name = name;
+        this.name = XmlElementName.of(name);
+        invalidateNavigationIndexes();
     }
 
     /**
@@ -268,7 +275,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public XmlValue elements(String qname) {
         ArrayList<BXml> children = new ArrayList<>();
-        if (getElementName().equals(getQname(qname).toString())) {
+        if (getElementName().equals(XmlElementName.toExpandedName(qname))) {
             children.add(this);
         }
         return new XmlSequence(children);
@@ -287,7 +294,13 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue children(String qname) {
-        return children.elements(qname);
+        XmlNavigationIndex index = getChildIndex();
+        if (index == null) {
+            return children.elements(qname);
+        }
+        List<BXml> selected = new ArrayList<>();
+        index.select(XmlElementName.toExpandedName(qname), selected);
+        return new XmlSequence(selected);
     }
 
     /**
@@ -303,6 +316,8 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return;
         }
 
+        // The indexes covering this element share the mutation stamp of the current children.
+        invalidateNavigationIndexes();
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
             children = (XmlSequence) seq;
             for (BXml child : children.children) {
@@ -346,6 +361,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             addParent(seq, this);
             leftList.add(seq);
         }
+        invalidateNavigationIndexes();
         this.children = new XmlSequence(leftList);
     }
 
@@ -419,12 +435,69 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
-        if (qnames.contains(getQName().toString())) {
-            List<BXml> descendants = Arrays.asList(this);
-            addDescendants(descendants, this, qnames);
-            return new XmlSequence(descendants);
+        Set<String> names = new HashSet<>(qnames);
+        List<BXml> descendants = new ArrayList<>();
+        if (names.contains(getElementName())) {
+            descendants.add(this);
+        }
+        addDescendants(descendants, names);
+        return new XmlSequence(descendants);
+    }
+
+    /**
+     * Adds the descendant elements with any of the given names to the list, in document order.
+     *
+     * @param descendants list to add the descendants to
+     * @param names expanded names of the elements to select
+     */
+    void addDescendants(List<BXml> descendants, Set<String> names) {
+        XmlNavigationIndex index = getDescendantIndex();
+        if (index == null) {
+            addDescendants(descendants, this, names);
+        } else {
+            index.select(names, descendants);
         }
-        return children.descendants(qnames);
+    }
+
+    private XmlNavigationIndex getChildIndex() {
+        XmlNavigationIndex index = childIndex;
+        if (index != null && index.isValidFor(children)) {
+            return index;
+        }
+        if (!isNavigatedRepeatedly()) {
+            return null;
+        }
+        index = XmlNavigationIndex.ofChildren(children, this.type.isReadOnly());
+        childIndex = index;
+        return index;
+    }
+
+    private XmlNavigationIndex getDescendantIndex() {
+        XmlNavigationIndex index = descendantIndex;
+        if (index != null && index.isValidFor(children)) {
+            return index;
+        }
+        if (!isNavigatedRepeatedly()) {
+            return null;
+        }
+        index = XmlNavigationIndex.ofDescendants(children, this.type.isReadOnly());
+        descendantIndex = index;
+        return index;
+    }
+
+    private boolean isNavigatedRepeatedly() {
+        // Races on the count only delay building the index.
+        if (navigationCount >= XmlNavigationIndex.BUILD_THRESHOLD) {
+            return true;
+        }
+        navigationCount++;
+        return false;
+    }
+
+    private void invalidateNavigationIndexes() {
+        childIndex = null;
+        descendantIndex = null;
+        XmlNavigationIndex.recordMutation(children);
     }
 
     @Override
@@ -440,12 +513,10 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public OMNode value() {
         try {
-            String xmlStr = this.stringValue(null);
-            OMElement omElement = XmlFactory.stringToOM(xmlStr);
-            return omElement;
+            return toOMElement(OMAbstractFactory.getOMFactory(), null);
         } catch (BError e) {
             throw e;
-        } catch (OMException | XMLStreamException e) {
+        } catch (OMException e) {
             Throwable cause = e.getCause() == null ? e : e.getCause();
             throw ErrorCreator.createError(StringUtils.fromString((cause.getMessage())));
         } catch (Throwable e) {
@@ -453,6 +524,76 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
     }
 
+    // Builds the Axiom tree directly from this element, instead of serializing it and parsing the string.
+    private OMElement toOMElement(OMFactory factory, OMElement parent) {
+        QName qName = name.getQName();
+        String namespaceUri = qName.getNamespaceURI();
+        OMNamespace namespace = namespaceUri.isEmpty() ? null :
+                factory.createOMNamespace(namespaceUri, qName.getPrefix());
+        OMElement element = parent == null ? factory.createOMElement(qName.getLocalPart(), namespace) :
+                factory.createOMElement(qName.getLocalPart(), namespace, parent);
+
+        List<Map.Entry<BString, BString>> plainAttributes = new ArrayList<>();
+        for (Map.Entry<BString, BString> attribute : attributes.entrySet()) {
+            String key = attribute.getKey().getValue();
+            if (!key.startsWith(XMLNS_NS_URI_PREFIX)) {
+                plainAttributes.add(attribute);
+                continue;
+            }
+            String prefix = key.substring(XMLNS_NS_URI_PREFIX.length());
+            // An undeclared default namespace, i.e. xmlns="", is kept with a null value.
+            BString value = attribute.getValue();
+            String uri = value == null ? XMLConstants.NULL_NS_URI : value.getValue();
+            if (prefix.equals(XMLConstants.XMLNS_ATTRIBUTE)) {
+                OMNamespace defaultNamespace = element.getDefaultNamespace();
+                if (defaultNamespace == null || !defaultNamespace.getNamespaceURI().equals(uri)) {
+                    element.declareDefaultNamespace(uri);
+                }
+            } else if (!prefix.equals(XMLConstants.XML_NS_PREFIX) && !uri.equals(element.findNamespaceURI(prefix))) {
+                element.declareNamespace(uri, prefix);
+            }
+        }
+
+        for (Map.Entry<BString, BString> attribute : plainAttributes) {
+            String key = attribute.getKey().getValue();
+            String value = attribute.getValue().getValue();
+            int closingCurly = key.indexOf('}');
+            if (!key.startsWith("{") || closingCurly < 0) {
+                element.addAttribute(key, value, null);
+                continue;
+            }
+            String uri = key.substring(1, closingCurly);
+            element.addAttribute(key.substring(closingCurly + 1), value, getAttributeNamespace(factory, element, uri));
+        }
+
+        for (BXml child : children.children) {
+            if (child.getNodeType() == ELEMENT) {
+                ((XmlItem) child).toOMElement(factory, element);
+            } else {
+                element.addChild((OMNode) child.value());
+            }
+        }
+        return element;
+    }
+
+    private static OMNamespace getAttributeNamespace(OMFactory factory, OMElement element, String uri) {
+        if (uri.isEmpty()) {
+            return null;
+        }
+        if (uri.equals(XMLConstants.XML_NS_URI)) {
+            return factory.createOMNamespace(uri, XMLConstants.XML_NS_PREFIX);
+        }
+        // Attributes are not in the default namespace, hence a prefix declared for the namespace is required.
+        for (Iterator<OMNamespace> iterator = element.getNamespacesInScope(); iterator.hasNext();) {
+            OMNamespace namespace = iterator.next();
+            if (namespace.getNamespaceURI().equals(uri) && !namespace.getPrefix().isEmpty()) {
+                return namespace;
+            }
+        }
+        // Axiom declares the namespace with a generated prefix.
+        return factory.createOMNamespace(uri, null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -502,8 +643,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return this;
         }
 
-        QName elemName = new QName(this.name.getNamespaceURI(), this.name.getLocalPart(), this.name.getPrefix());
-        XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) children.copy(refs));
+        XmlItem xmlItem = new XmlItem(getQName(), (XmlSequence) children.copy(refs));
 
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
         MapValue<BString, BString> copy = (MapValue<BString, BString>) this.getAttributesMap().copy(refs);
@@ -597,6 +737,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             BXml removed = children.remove(index.intValue());
             removeParentReference(removed);
         }
+        invalidateNavigationIndexes();
     }
 
     private void setAttributes(BMap<BString, BString> attributes, SetAttributeFunction func) {
@@ -682,7 +823,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        return Objects.hash(getQName(), children, attributes, probableParents);
     }
 
     /**
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of either the child elements or the descendant elements of an XML element, from the expanded element name
+ * to the positions of the elements with that name in document order.
+ * <p>
+ * An index is immutable. The index of a read-only element is valid as long as the element lives. Elements of a
+ * parsed document do not refer to their parents, hence the children of all the elements covered by the index of a
+ * mutable element share a mutation stamp with the indexed element. Any mutation of an element, i.e. setting, adding
+ * or removing its children or changing its name, advances the stamp of its children, which invalidates the indexes
+ * of that tree only. Elements that are not covered by an index have no stamp and are mutated without any cost.
+ *
+ * @since 2201.10.0
+ */
+final class XmlNavigationIndex {
+
+    /**
+     * Number of navigations of an element after which the indexes of it are built. Elements that are navigated only
+     * once do not keep an index.
+     */
+    static final int BUILD_THRESHOLD = 2;
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    // null for the index of a read-only element
+    private final AtomicInteger mutationStamp;
+    private final int mutationCount;
+    private final XmlSequence source;
+    private final int sourceSize;
+    private final BXml[] elements;
+    private final Map<String, int[]> positions;
+
+    private XmlNavigationIndex(XmlSequence source, List<BXml> elements, AtomicInteger mutationStamp,
+                               int mutationCount) {
+        this.mutationStamp = mutationStamp;
+        this.mutationCount = mutationCount;
+        this.source = source;
+        this.sourceSize = source.children.size();
+        this.elements = elements.toArray(new BXml[0]);
+        this.positions = indexPositions(this.elements);
+    }
+
+    /**
+     * Records a mutation of the given children or of the element they belong to.
+     *
+     * @param children children of the mutated element
+     */
+    static void recordMutation(XmlSequence children) {
+        AtomicInteger mutationStamp = children.navigationStamp;
+        if (mutationStamp != null) {
+            mutationStamp.incrementAndGet();
+        }
+    }
+
+    static XmlNavigationIndex ofChildren(XmlSequence children, boolean readonly) {
+        AtomicInteger mutationStamp = readonly ? null : getMutationStamp(children);
+        // The count is taken before the children are traversed, so that a mutation during the traversal
+        // invalidates the index.
+        int mutationCount = mutationStamp == null ? 0 : mutationStamp.get();
+        List<BXml> elements = new ArrayList<>();
+        for (BXml child : children.children) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                elements.add(child);
+                // Changing the name of a child changes the index.
+                shareMutationStamp((XmlSequence) ((XmlItem) child).getChildrenSeq(), mutationStamp);
+            }
+        }
+        return new XmlNavigationIndex(children, elements, mutationStamp, mutationCount);
+    }
+
+    static XmlNavigationIndex ofDescendants(XmlSequence children, boolean readonly) {
+        AtomicInteger mutationStamp = readonly ? null : getMutationStamp(children);
+        int mutationCount = mutationStamp == null ? 0 : mutationStamp.get();
+        List<BXml> elements = new ArrayList<>();
+        addDescendantElements(elements, children, mutationStamp);
+        return new XmlNavigationIndex(children, elements, mutationStamp, mutationCount);
+    }
+
+    private static AtomicInteger getMutationStamp(XmlSequence children) {
+        AtomicInteger mutationStamp = children.navigationStamp;
+        if (mutationStamp == null) {
+            mutationStamp = new AtomicInteger();
+            children.navigationStamp = mutationStamp;
+        }
+        return mutationStamp;
+    }
+
+    private static void shareMutationStamp(XmlSequence children, AtomicInteger mutationStamp) {
+        if (mutationStamp == null) {
+            return;
+        }
+        AtomicInteger previous = children.navigationStamp;
+        if (previous != mutationStamp) {
+            // The children are shared with another tree, of which the indexes would not see their mutations anymore.
+            if (previous != null) {
+                previous.incrementAndGet();
+            }
+            children.navigationStamp = mutationStamp;
+        }
+    }
+
+    private static void addDescendantElements(List<BXml> elements, XmlSequence children,
+                                              AtomicInteger mutationStamp) {
+        for (BXml child : children.children) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT) {
+                elements.add(child);
+                XmlSequence grandChildren = (XmlSequence) ((XmlItem) child).getChildrenSeq();
+                shareMutationStamp(grandChildren, mutationStamp);
+                addDescendantElements(elements, grandChildren, mutationStamp);
+            }
+        }
+    }
+
+    private static Map<String, int[]> indexPositions(BXml[] elements) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (BXml element : elements) {
+            counts.computeIfAbsent(element.getElementName(), name -> new int[1])[0]++;
+        }
+        Map<String, int[]> positions = new HashMap<>(counts.size() * 2);
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            positions.put(entry.getKey(), new int[entry.getValue()[0]]);
+            entry.getValue()[0] = 0;
+        }
+        for (int i = 0; i < elements.length; i++) {
+            String name = elements[i].getElementName();
+            positions.get(name)[counts.get(name)[0]++] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Checks whether this index was built for the given children and the children are unchanged.
+     *
+     * @param children current children of the indexed element
+     * @return true if this index is still valid for the children
+     */
+    boolean isValidFor(XmlSequence children) {
+        return source == children && sourceSize == children.children.size() &&
+                (mutationStamp == null || mutationStamp.get() == mutationCount);
+    }
+
+    void select(String name, List<BXml> selected) {
+        for (int position : positions.getOrDefault(name, NO_POSITIONS)) {
+            selected.add(elements[position]);
+        }
+    }
+
+    void select(Set<String> names, List<BXml> selected) {
+        int[] matched = NO_POSITIONS;
+        int count = 0;
+        for (String name : names) {
+            int[] namePositions = positions.get(name);
+            if (namePositions == null) {
+                continue;
+            }
+            if (count == 0) {
+                matched = namePositions;
+            } else {
+                matched = Arrays.copyOf(matched, count + namePositions.length);
+                System.arraycopy(namePositions, 0, matched, count, namePositions.length);
+                // Each element has a single name, hence the merged positions are distinct.
+                Arrays.sort(matched);
+            }
+            count += namePositions.length;
+        }
+        for (int i = 0; i < count; i++) {
+            selected.add(elements[matched[i]]);
+        }
+    }
+}
@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_EMPTY_VALUE;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.XML_LANG_LIB;
@@ -61,6 +62,8 @@ import static io.ballerina.runtime.internal.TypeChecker.isEqual;
 public final class XmlSequence extends XmlValue implements BXmlSequence {
 
     List<BXml> children;
+    // Mutation stamp shared with the navigation indexes covering these children, if any.
+    AtomicInteger navigationStamp;
 
     /**
      * Create an empty xml sequence.
@@ -228,7 +231,7 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Override
     public XmlValue elements(String qname) {
         List<BXml> elementsSeq = new ArrayList<>();
-        String qnameStr = getQname(qname).toString();
+        String qnameStr = XmlElementName.toExpandedName(qname);
         for (BXml child : children) {
             if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
                 elementsSeq.add(child);
@@ -299,6 +302,8 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Deprecated
     public void addChildren(BXml xmlItem) {
         children.add(xmlItem);
+        // The sequence may be the children of an element, which is indexed by its ancestors as well.
+        XmlNavigationIndex.recordMutation(this);
 
         // If sequence contains children of same type
         // the sequence type should be changed to that corresponding xml type
@@ -404,14 +409,14 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Override
     public XmlValue descendants(List<String> qnames) {
         List<BXml> descendants = new ArrayList<>();
+        Set<String> names = new HashSet<>(qnames);
         for (BXml child : children) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
                 XmlItem element = (XmlItem) child;
-                String name = element.getQName().toString();
-                if (qnames.contains(name)) {
+                if (names.contains(element.getElementName())) {
                     descendants.add(element);
                 }
-                addDescendants(descendants, element, qnames);
+                element.addDescendants(descendants, names);
             }
         }
 
@@ -33,6 +33,7 @@ import io.ballerina.runtime.internal.IteratorUtils;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.namespace.QName;
 
@@ -182,10 +183,10 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
      * @param currentElement Current node
      * @param qnames Qualified names of the descendants to search
      */
-    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, List<String> qnames) {
+    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, Set<String> qnames) {
         for (BXml child : currentElement.getChildrenSeq().getChildrenList()) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                String elemName = ((XmlItem) child).getQName().toString();
+                String elemName = ((XmlItem) child).getElementName();
                 if (qnames.contains(elemName)) {
                     descendants.add(child);
                 }
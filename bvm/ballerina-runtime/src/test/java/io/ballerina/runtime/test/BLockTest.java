@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the acquisition paths of {@link BLock}.
+ */
+public class BLockTest {
+
+    @Test
+    void testReentrantExclusiveLock() {
+        BLock lock = new BLock();
+        Strand strand = createStrand();
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockShared(strand));
+        Assert.assertEquals(strand.acquiredLockCount, 3);
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+
+        lock.unlockShared(strand);
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(strand.acquiredLockCount, 0);
+        Assert.assertEquals(lock.getContentionCount(), 0);
+    }
+
+    @Test
+    void testSharedLockIsNotExclusive() {
+        BLock lock = new BLock();
+        Strand first = createStrand();
+        Strand second = createStrand();
+        Assert.assertTrue(lock.lockShared(first));
+        Assert.assertTrue(lock.lockShared(second));
+        Assert.assertEquals(lock.getQueueLength(), 0);
+
+        lock.unlockShared(first);
+        lock.unlockShared(second);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(first.acquiredLockCount, 0);
+        Assert.assertEquals(second.acquiredLockCount, 0);
+    }
+
+    @Test
+    void testContendedLockQueuesStrand() {
+        BLock lock = new BLock();
+        Strand reader = createStrand();
+        Strand writer = createStrand();
+        Assert.assertTrue(lock.lockShared(reader));
+
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(writer.acquiredLockCount, 0);
+        Assert.assertEquals(lock.getQueueLength(), 1);
+        Assert.assertEquals(lock.getContentionCount(), 1);
+        Assert.assertFalse(lock.lockedBySameContext(writer));
+    }
+
+    @Test
+    void testWriterProgressUnderContinuousReaders() {
+        BLock lock = new BLock();
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand firstReader = createStrand(scheduler);
+        Strand writer = createStrand(scheduler);
+        Assert.assertTrue(lock.lockShared(firstReader));
+        Assert.assertFalse(lock.lock(writer));
+
+        // readers arriving after the writer queue behind it, even though the lock is only shared
+        List<Strand> laterReaders = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Strand reader = createStrand(scheduler);
+            Assert.assertFalse(lock.lockShared(reader));
+            laterReaders.add(reader);
+        }
+        Assert.assertEquals(lock.getQueueLength(), 6);
+
+        // a reader that already holds the lock is not made to wait for the writer waiting for it
+        Assert.assertTrue(lock.lockShared(firstReader));
+        lock.unlockShared(firstReader);
+        lock.unlockShared(firstReader);
+        Assert.assertEquals(scheduler.unblocked, List.of(writer));
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked.subList(1, scheduler.unblocked.size()), laterReaders);
+        for (Strand reader : laterReaders) {
+            Assert.assertTrue(lock.lockShared(reader));
+        }
+        Assert.assertEquals(lock.getQueueLength(), 0);
+        for (Strand reader : laterReaders) {
+            lock.unlockShared(reader);
+        }
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testReaderResumedAheadOfWriterDoesNotBlockIt() {
+        BLock lock = new BLock();
+        RecordingScheduler scheduler = new RecordingScheduler();
+        Strand firstWriter = createStrand(scheduler);
+        Strand reader = createStrand(scheduler);
+        Strand secondWriter = createStrand(scheduler);
+        Assert.assertTrue(lock.lock(firstWriter));
+        Assert.assertFalse(lock.lockShared(reader));
+        Assert.assertFalse(lock.lock(secondWriter));
+
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked, List.of(reader));
+        // the resumed reader queues behind the writer and hands the free lock over to it
+        Assert.assertFalse(lock.lockShared(reader));
+        Assert.assertEquals(scheduler.unblocked, List.of(reader, secondWriter));
+        Assert.assertTrue(lock.lock(secondWriter));
+
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked, List.of(reader, secondWriter, reader));
+        Assert.assertTrue(lock.lockShared(reader));
+        lock.unlockShared(reader);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertEquals(lock.getQueueLength(), 0);
+    }
+
+    private static Strand createStrand() {
+        return createStrand(null);
+    }
+
+    private static Strand createStrand(Scheduler scheduler) {
+        return new Strand(null, null, scheduler, null, null);
+    }
+
+    /**
+     * Scheduler that records the strands resumed by a lock instead of running them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        private final List<Strand> unblocked = new ArrayList<>();
+
+        RecordingScheduler() {
+            super(1, false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            this.unblocked.add(strand);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.internal.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for parsing UTF-8 encoded and streamed JSON content with {@link JsonParser}.
+ */
+public class JsonParserTest {
+
+    private static final String NAME = "Fr\u00E4v\u20AC\uD83D\uDC7D";
+    private static final String TAG = "\u0DC1\u0DCA";
+    private static final String JSON = "{\"name\": \"" + NAME + "\", \"tags\": [\"" + TAG + "\", \"a\"]}";
+
+    @Test
+    public void testParseByteBuffer() {
+        ByteBuffer bytes = ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8));
+        assertParsedValue(ValueUtils.parse(bytes, PredefinedTypes.TYPE_JSON));
+    }
+
+    @Test
+    public void testParseDirectByteBuffer() {
+        byte[] content = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer bytes = ByteBuffer.allocateDirect(content.length + 2);
+        bytes.put((byte) ' ').put(content).flip();
+        bytes.position(1);
+        assertParsedValue(ValueUtils.parse(bytes, PredefinedTypes.TYPE_JSON));
+    }
+
+    @Test
+    public void testParseInputStreamWithSplitSequences() {
+        // Returns a single byte per read so that every multi byte sequence spans two reads.
+        InputStream in = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        assertParsedValue(JsonParser.parse(in, "UTF-8", PredefinedTypes.TYPE_JSON));
+    }
+
+    @Test
+    public void testParseMalformedSequence() {
+        byte[] bytes = {'"', 'a', (byte) 0xC3, 'b', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"'};
+        Object value = JsonParser.parse(ByteBuffer.wrap(bytes), PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(value.toString(), "a\uFFFDb\uFFFD\uFFFD\uFFFD");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unexpected end of the input stream.*")
+    public void testParseTruncatedContent() {
+        byte[] bytes = JSON.substring(0, 12).getBytes(StandardCharsets.UTF_8);
+        JsonParser.parse(ByteBuffer.wrap(bytes), PredefinedTypes.TYPE_JSON);
+    }
+
+    @Test
+    public void testParseArrayElements() {
+        String json = " [ {\"a\": [1, 2]}, \"x,]\\\"y\", 3 , [ ], null ] ";
+        Iterator<Object> elements = JsonUtils.parseArrayElements(new StringReader(json), PredefinedTypes.TYPE_JSON);
+        List<String> values = new ArrayList<>();
+        while (elements.hasNext()) {
+            values.add(StringUtils.getJsonString(elements.next()));
+        }
+        Assert.assertEquals(values, List.of("{\"a\":[1, 2]}", "\"x,]\\\"y\"", "3", "[]", "null"));
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    @Test
+    public void testParseArrayElementsWithElementType() {
+        InputStream in = new ByteArrayInputStream("[1, 2, 3]".getBytes(StandardCharsets.UTF_8));
+        Iterator<Object> elements = JsonUtils.parseArrayElements(in, "UTF-8", PredefinedTypes.TYPE_INT);
+        long sum = 0;
+        while (elements.hasNext()) {
+            sum += (Long) elements.next();
+        }
+        Assert.assertEquals(sum, 6);
+    }
+
+    @Test
+    public void testParseEmptyArrayElements() {
+        Assert.assertFalse(JsonUtils.parseArrayElements(new StringReader(" [ ] "), PredefinedTypes.TYPE_JSON)
+                .hasNext());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected ',' or ']'")
+    public void testParseArrayElementsWithMissingSeparator() {
+        Iterator<Object> elements = JsonUtils.parseArrayElements(new StringReader("[1 2]"), PredefinedTypes.TYPE_JSON);
+        elements.next();
+        elements.next();
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected '\\['")
+    public void testParseArrayElementsOfNonArray() {
+        JsonUtils.parseArrayElements(new StringReader("{}"), PredefinedTypes.TYPE_JSON).hasNext();
+    }
+
+    private static void assertParsedValue(Object value) {
+        BMap<?, ?> map = (BMap<?, ?>) value;
+        Assert.assertEquals(map.getStringValue(StringUtils.fromString("name")).getValue(), NAME);
+        BArray tags = (BArray) map.get(StringUtils.fromString("tags"));
+        Assert.assertEquals(tags.size(), 2);
+        Assert.assertEquals(tags.getBString(0).getValue(), TAG);
+    }
+}
@@ -1,5 +1,7 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +42,38 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRepeatedConcat() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            result = result.concat(StringUtils.fromString(Integer.toString(i)));
+            expected.append(i);
+        }
+        Assert.assertEquals(result.length(), expected.length());
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(result.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatOnSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(100)).concat(StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("c"));
+        BString second = prefix.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(100) + "b");
+        Assert.assertEquals(first.getValue(), "a".repeat(100) + "bc");
+        Assert.assertEquals(second.getValue(), "a".repeat(100) + "bd");
+        Assert.assertEquals(second.getCodePoint(101), 'd');
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString result = StringUtils.fromString("a".repeat(100)).concat(StringUtils.fromString("b"))
+                .concat(SUBJECT);
+        Assert.assertEquals(result.length(), 117);
+        Assert.assertEquals(result.getCodePoint(102), 0x1F6F8);
+        Assert.assertEquals(result.getValue(), "a".repeat(100) + "b" + UNICODE_STR);
+    }
+
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Test cases for the cache of subtype check results.
+ */
+public class TypeCheckCacheTest {
+
+    @Test
+    public void testCachedResult() {
+        TypeCheckCache.invalidate();
+        Type source = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type target = new BMapType(PredefinedTypes.TYPE_INT);
+        CountingCheck check = new CountingCheck(false);
+        Assert.assertFalse(TypeCheckCache.checkIsType(source, target, check));
+        Assert.assertFalse(TypeCheckCache.checkIsType(source, target, check));
+        Assert.assertEquals(check.count, 1);
+
+        // the pair is ordered
+        CountingCheck reverseCheck = new CountingCheck(true);
+        Assert.assertTrue(TypeCheckCache.checkIsType(target, source, reverseCheck));
+        Assert.assertTrue(TypeCheckCache.checkIsType(target, source, reverseCheck));
+        Assert.assertEquals(reverseCheck.count, 1);
+    }
+
+    @Test
+    public void testInvalidationOnTypeMutation() {
+        TypeCheckCache.invalidate();
+        BArrayType source = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type target = new BMapType(PredefinedTypes.TYPE_INT);
+        CountingCheck check = new CountingCheck(true);
+        TypeCheckCache.checkIsType(source, target, check);
+
+        // constructing a type does not change any type in the cache
+        new BArrayType(PredefinedTypes.TYPE_STRING);
+        TypeCheckCache.checkIsType(source, target, check);
+        Assert.assertEquals(check.count, 1);
+
+        source.setElementType(PredefinedTypes.TYPE_STRING, 1, true);
+        TypeCheckCache.checkIsType(source, target, check);
+        Assert.assertEquals(check.count, 2);
+    }
+
+    @Test
+    public void testResultOfChangedTypeNotCached() {
+        TypeCheckCache.invalidate();
+        Type source = new BArrayType(PredefinedTypes.TYPE_INT);
+        Type target = new BMapType(PredefinedTypes.TYPE_INT);
+        CountingCheck check = new CountingCheck(true) {
+            @Override
+            public boolean test(Type sourceType, Type targetType) {
+                // a type is changed while the check is running
+                TypeCheckCache.invalidate();
+                return super.test(sourceType, targetType);
+            }
+        };
+        TypeCheckCache.checkIsType(source, target, check);
+        Assert.assertEquals(TypeCheckCache.size(), 0);
+        TypeCheckCache.checkIsType(source, target, check);
+        Assert.assertEquals(check.count, 2);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        TypeCheckCache.invalidate();
+        Type target = new BMapType(PredefinedTypes.TYPE_INT);
+        CountingCheck check = new CountingCheck(true);
+        List<Type> sources = new ArrayList<>();
+        for (int i = 0; i < TypeCheckCache.MAX_SIZE + 100; i++) {
+            Type source = new BArrayType(PredefinedTypes.TYPE_INT);
+            sources.add(source);
+            TypeCheckCache.checkIsType(source, target, check);
+        }
+        Assert.assertTrue(TypeCheckCache.size() <= TypeCheckCache.MAX_SIZE);
+        Assert.assertEquals(check.count, sources.size());
+    }
+
+    @Test
+    public void testCollectedTypesAreRemoved() throws InterruptedException {
+        TypeCheckCache.invalidate();
+        Type target = new BMapType(PredefinedTypes.TYPE_INT);
+        CountingCheck check = new CountingCheck(true);
+        for (int i = 0; i < 100; i++) {
+            TypeCheckCache.checkIsType(new BArrayType(PredefinedTypes.TYPE_INT), target, check);
+        }
+        Assert.assertEquals(TypeCheckCache.size(), 100);
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (TypeCheckCache.size() > 1 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+            // collected types are removed when a result is added
+            TypeCheckCache.checkIsType(new BArrayType(PredefinedTypes.TYPE_INT), target, check);
+        }
+        Assert.assertTrue(TypeCheckCache.size() <= 1);
+    }
+
+    /**
+     * Subtype check that counts how many times it is used.
+     */
+    private static class CountingCheck implements BiPredicate<Type, Type> {
+
+        private final boolean result;
+        private int count;
+
+        CountingCheck(boolean result) {
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Type sourceType, Type targetType) {
+            count++;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for reading selected elements of an XML document one at a time.
+ */
+public class XmlElementIteratorTest {
+
+    private static final String XML = "<?xml version=\"1.0\"?><!-- export --><export xmlns:p=\"http://p.com\">" +
+            "<row id=\"1\"><name>a</name></row><p:row id=\"2\"/><group><row id=\"3\">b<row id=\"4\"/></row></group>" +
+            "<!-- end --></export>";
+
+    @Test
+    public void testParseElements() {
+        List<BXml> rows = new ArrayList<>();
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(XML), "row");
+        while (elements.hasNext()) {
+            rows.add(elements.next());
+        }
+        Assert.assertFalse(elements.hasNext());
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).getAttribute("id", "").getValue(), "1");
+        Assert.assertEquals(rows.get(0).children().getTextValue(), "a");
+        Assert.assertEquals(rows.get(1).getAttribute("id", "").getValue(), "3");
+        Assert.assertEquals(rows.get(1).children().size(), 2);
+    }
+
+    @Test
+    public void testParseElementsWithNamespace() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(XML), "{http://p.com}row");
+        Assert.assertTrue(elements.hasNext());
+        BXml row = elements.next();
+        Assert.assertEquals(row.getElementName(), "{http://p.com}row");
+        Assert.assertFalse(elements.hasNext());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "failed to parse xml.*")
+    public void testParseElementsOfMalformedDocument() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader("<a><row></a>"), "row");
+        while (elements.hasNext()) {
+            elements.next();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Test cases for element names and the Axiom representation of XML elements.
+ */
+public class XmlItemTest {
+
+    @DataProvider
+    public Object[][] elements() {
+        return new Object[][]{
+                {"<a x=\"1\" y=\"2\">t<b/>u<!--c--><?pi d?></a>"},
+                {"<a xmlns=\"http://d\"><b><c xmlns=\"\">x</c></b></a>"},
+                {"<p:a xmlns:p=\"http://p\" xmlns:q=\"http://q\" q:at=\"v\"><p:b q:c=\"1\"/><q:d/></p:a>"},
+                {"<a xml:lang=\"en\">&lt;&amp;</a>"},
+                {"<a><b xmlns:r=\"http://r\"><r:c/></b><r2:c xmlns:r2=\"http://r\"/></a>"}
+        };
+    }
+
+    @Test(dataProvider = "elements")
+    public void testValue(String xml) {
+        BXml element = XmlUtils.parse(xml).getItem(0);
+        Assert.assertEquals(element.value().toString(), xml);
+    }
+
+    @Test
+    public void testElementNamesAreShared() {
+        BXml root = XmlUtils.parse("<r xmlns:p=\"http://p\"><p:a/><p:a/></r>").getItem(0);
+        BXmlItem first = (BXmlItem) root.children().getItem(0);
+        BXmlItem second = (BXmlItem) root.children().getItem(1);
+        Assert.assertSame(first.getQName(), second.getQName());
+        Assert.assertSame(first.getElementName(), second.getElementName());
+        Assert.assertEquals(first.getElementName(), "{http://p}a");
+    }
+
+    @Test
+    public void testDescendants() {
+        BXml root = XmlUtils.parse("<r><a><b/><a><b/></a></a><b/></r>").getItem(0);
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 3);
+        Assert.assertEquals(root.descendants(List.of("r", "b")).size(), 4);
+        Assert.assertEquals(root.children().descendants(List.of("a")).size(), 2);
+        Assert.assertEquals(root.children().elements("{}b").size(), 1);
+    }
+
+    @Test
+    public void testDescendantsAfterMutation() {
+        BXml root = XmlUtils.parse("<r><a><b/><c><b/></c></a><b/></r>").getItem(0);
+        BXml c = root.children().getItem(0).children().getItem(1);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(root.descendants(List.of("b")).size(), 3);
+        }
+        c.removeChildren("b");
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 2);
+        ((BXmlItem) c).setQName(new QName("b"));
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 3);
+        c.setChildren(XmlUtils.parse("<c><b/><b/></c>").getItem(0).children());
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 5);
+    }
+
+    @Test
+    public void testDescendantsAfterAddingChildren() {
+        BXml root = XmlUtils.parse("<r><a><c/></a><b/></r>").getItem(0);
+        BXml a = root.children().getItem(0);
+        BXml c = a.children().getItem(0);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(root.descendants(List.of("b")).size(), 1);
+            Assert.assertEquals(a.children("b").size(), 0);
+        }
+        c.addChildren(XmlUtils.parse("<b/>"));
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 2);
+        ((XmlSequence) ((XmlItem) a).getChildrenSeq()).addChildren(XmlUtils.parse("<b/>").getItem(0));
+        Assert.assertEquals(a.children("b").size(), 1);
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 3);
+    }
+
+    @Test
+    public void testDescendantsOfTreesSharingElement() {
+        BXml shared = XmlUtils.parse("<s><b/></s>").getItem(0);
+        BXml first = XmlUtils.parse("<r1/>").getItem(0);
+        BXml second = XmlUtils.parse("<r2><b/><x/></r2>").getItem(0);
+        first.setChildren(shared);
+        second.children().getItem(1).setChildren(shared);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(first.descendants(List.of("b")).size(), 1);
+            Assert.assertEquals(second.descendants(List.of("b")).size(), 2);
+        }
+        shared.setChildren(XmlUtils.parse("<s><b/><b/></s>").getItem(0).children());
+        Assert.assertEquals(first.descendants(List.of("b")).size(), 2);
+        Assert.assertEquals(second.descendants(List.of("b")).size(), 3);
+    }
+
+    @Test
+    public void testIndexKeptOnMutationOfOtherTree() throws ReflectiveOperationException {
+        BXml root = XmlUtils.parse("<r><a><b/></a></r>").getItem(0);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(root.descendants(List.of("b")).size(), 1);
+        }
+        Field descendantIndex = XmlItem.class.getDeclaredField("descendantIndex");
+        descendantIndex.setAccessible(true);
+        Object index = descendantIndex.get(root);
+        Assert.assertNotNull(index);
+
+        BXml other = XmlUtils.parse("<o><b/></o>").getItem(0);
+        other.removeChildren("b");
+        other.children().addChildren(XmlUtils.parse("<c/>"));
+        Assert.assertEquals(root.descendants(List.of("b")).size(), 1);
+        Assert.assertSame(descendantIndex.get(root), index);
+    }
+
+    @Test
+    public void testChildrenAfterMutation() {
+        BXml root = XmlUtils.parse("<r><a/><b/><a/></r>").getItem(0);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(root.children("a").size(), 2);
+        }
+        ((BXmlItem) root.children().getItem(1)).setQName(new QName("a"));
+        Assert.assertEquals(root.children("a").size(), 3);
+        root.removeChildren("a");
+        Assert.assertEquals(root.children("a").size(), 0);
+    }
+
+    @Test
+    public void testNavigationOfReadOnlyElement() {
+        BXml root = XmlUtils.parse("<r><a id=\"1\"><b id=\"2\"/></a><b id=\"3\"><a id=\"4\"/></b></r>").getItem(0);
+        root.freezeDirect();
+        for (int i = 0; i < 3; i++) {
+            BXml descendants = root.descendants(List.of("b", "a"));
+            Assert.assertEquals(descendants.size(), 4);
+            for (int j = 0; j < 4; j++) {
+                Assert.assertEquals(descendants.getItem(j).getAttribute("id", "").getValue(), String.valueOf(j + 1));
+            }
+            Assert.assertEquals(root.children("{}b").size(), 1);
+        }
+    }
+}
@@ -42,4 +42,34 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the key of the compilation the cached BIR and platform-specific libraries of the module were generated
+     * from. A cache that does not track compilation keys always returns an empty value.
+     *
+     * @param moduleName module name
+     * @return compilation key of the cached module
+     */
+    public Optional<String> getCompilationKey(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the key of the compilation the cached BIR and platform-specific libraries of the module were generated
+     * from. This is called only after all of them are cached.
+     *
+     * @param moduleName     module name
+     * @param compilationKey compilation key
+     */
+    public void cacheCompilationKey(ModuleName moduleName, String compilationKey) {
+    }
+
+    /**
+     * Removes the compilation key of the module, before the cached BIR and platform-specific libraries of the module
+     * are replaced.
+     *
+     * @param moduleName module name
+     */
+    public void invalidateCompilationKey(ModuleName moduleName) {
+    }
 }
@@ -57,11 +57,13 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -69,6 +71,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -108,6 +113,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private final List<JarConflict> conflictedJars;
+    // Jars of the modules generated so far that are yet to be cached, in the topological order of the modules. These
+    // are only used while generating the code of the whole package.
+    private Deque<PendingJar> pendingJarWrites;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         return from(packageCompilation, jdkVersion, true);
@@ -158,6 +166,35 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        pendingJarWrites = new ArrayDeque<>();
+        try {
+            generateModules(shrink, moduleDiagnostics);
+            awaitJarWrites(0);
+        } catch (Throwable t) {
+            // Do not mask the failure of the code generation with the failure of a jar write
+            try {
+                awaitJarWrites(0);
+            } catch (RuntimeException e) {
+                t.addSuppressed(e);
+            }
+            throw t;
+        } finally {
+            pendingJarWrites = null;
+        }
+        // The BIR and the jars of the generated modules are cached by now
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            ModuleContext.cacheCompilationKey(moduleContext);
+        }
+        // add compilation diagnostics
+        diagnostics.addAll(moduleDiagnostics);
+        // add plugin diagnostics
+        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+
+        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        codeGenCompleted = true;
+    }
+
+    private void generateModules(boolean shrink, List<Diagnostic> moduleDiagnostics) {
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
                 if (packageCompilation.diagnosticResult().hasErrors()) {
@@ -188,13 +225,76 @@ public class JBallerinaBackend extends CompilerBackend {
                 moduleContext.cleanBLangPackage();
             }
         }
-        // add compilation diagnostics
-        diagnostics.addAll(moduleDiagnostics);
-        // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+    }
 
-        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
-        codeGenCompleted = true;
+    /**
+     * Writes and caches the jar of a module. The generated classes of the module no longer depend on the compiler
+     * state, hence while the code of the whole package is generated, archiving the jar is done in the background and
+     * overlaps with the code generation of the next modules. The archived jar is still cached from the calling thread,
+     * in the topological order of the modules, so compilation caches are never called concurrently.
+     */
+    private void writeJar(ModuleContext moduleContext, CompilationCache compilationCache, String jarFileName,
+                          CompiledJarFile compiledJarFile, Map<String, byte[]> resources, String errorMessage) {
+        Supplier<ByteArrayOutputStream> jarWrite = () -> {
+            try {
+                return JarWriter.write(compiledJarFile, resources);
+            } catch (IOException e) {
+                throw new ProjectException(errorMessage + moduleContext.moduleName());
+            }
+        };
+        if (pendingJarWrites == null) {
+            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, jarWrite.get());
+            return;
+        }
+        // Bound the number of generated jars held in memory.
+        awaitJarWrites(Runtime.getRuntime().availableProcessors());
+        pendingJarWrites.add(new PendingJar(CompletableFuture.supplyAsync(jarWrite), compilationCache, jarFileName));
+    }
+
+    /**
+     * Waits for the pending jar writes and caches the jars, in the order they were started, until at most the given
+     * number of writes is pending. The failure of the first module in the topological order is reported and the
+     * jars of the following modules are not cached, as in a sequential build.
+     */
+    private void awaitJarWrites(int maxPending) {
+        RuntimeException failure = null;
+        while (pendingJarWrites.size() > maxPending) {
+            PendingJar pendingJar = pendingJarWrites.poll();
+            try {
+                ByteArrayOutputStream byteStream = pendingJar.content.join();
+                if (failure == null) {
+                    pendingJar.compilationCache.cachePlatformSpecificLibrary(this, pendingJar.jarFileName,
+                            byteStream);
+                }
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Jar of a module that is being archived in the background and is yet to be cached.
+     */
+    private static final class PendingJar {
+        private final CompletableFuture<ByteArrayOutputStream> content;
+        private final CompilationCache compilationCache;
+        private final String jarFileName;
+
+        private PendingJar(CompletableFuture<ByteArrayOutputStream> content, CompilationCache compilationCache,
+                           String jarFileName) {
+            this.content = content;
+            this.compilationCache = compilationCache;
+            this.jarFileName = jarFileName;
+        }
     }
 
     private boolean hasErrors(List<Diagnostic> diagnostics) {
@@ -369,12 +469,8 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        writeJar(moduleContext, compilationCache, jarFileName, compiledJarFile, getResources(moduleContext),
+                "Failed to cache generated jar, module: ");
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
             return;
@@ -387,12 +483,8 @@ public class JBallerinaBackend extends CompilerBackend {
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0),
                 isRemoteMgtEnabled);
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
-        }
+        writeJar(moduleContext, compilationCache, testJarFileName, compiledTestJarFile,
+                getAllResources(moduleContext), "Failed to cache generated test jar, module: ");
     }
 
     @Override
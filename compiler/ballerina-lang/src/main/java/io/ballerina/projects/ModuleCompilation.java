@@ -42,15 +42,14 @@ import java.util.Set;
  */
 public class ModuleCompilation {
     private final ModuleContext moduleContext;
-    private final PackageContext packageContext;
     private final PackageCache packageCache;
     private final CompilerContext compilerContext;
 
     private final DependencyGraph<ModuleDescriptor> dependencyGraph;
+    private final List<ModuleContext> compiledModuleContexts;
     private DiagnosticResult diagnosticResult;
 
     ModuleCompilation(PackageContext packageContext, ModuleContext moduleContext) {
-        this.packageContext = packageContext;
         this.moduleContext = moduleContext;
 
         // Resolving the dependencies of this package before the compilation
@@ -61,6 +60,7 @@ public class ModuleCompilation {
         this.packageCache = projectEnvContext.getService(PackageCache.class);
         this.compilerContext = projectEnvContext.getService(CompilerContext.class);
         this.dependencyGraph = buildDependencyGraph();
+        this.compiledModuleContexts = new ArrayList<>();
         compile();
     }
 
@@ -113,6 +113,7 @@ public class ModuleCompilation {
             }
             ModuleContext moduleContext = pkg.get().module(sortedModuleDescriptor.name()).moduleContext();
             moduleContext.compile(compilerContext);
+            compiledModuleContexts.add(moduleContext);
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                 diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
             }
@@ -122,6 +123,32 @@ public class ModuleCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    /**
+     * Checks whether this compilation is still valid for the given module of a modified package.
+     * <p>
+     * Modifying a module creates new module contexts for the module and all of its dependents. Hence, this
+     * compilation can be reused if the module and all of its transitive dependencies still resolve to the module
+     * contexts that were compiled.
+     *
+     * @param moduleContext module context of the modified package
+     * @return true if the compilation can be reused
+     */
+    boolean isReusableFor(ModuleContext moduleContext) {
+        if (this.moduleContext != moduleContext) {
+            return false;
+        }
+        for (ModuleContext compiledModuleContext : compiledModuleContexts) {
+            ModuleDescriptor moduleDescriptor = compiledModuleContext.descriptor();
+            Optional<Package> pkg = packageCache.getPackage(moduleDescriptor.org(),
+                    moduleDescriptor.packageName(), moduleDescriptor.version());
+            if (pkg.isEmpty() ||
+                    pkg.get().packageContext().moduleContext(moduleDescriptor.name()) != compiledModuleContext) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public SemanticModel getSemanticModel() {
         return new BallerinaSemanticModel(this.moduleContext.bLangPackage(), this.compilerContext);
     }
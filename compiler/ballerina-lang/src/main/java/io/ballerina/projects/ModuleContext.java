@@ -23,6 +23,8 @@ import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.ModuleContextDataHolder;
+import io.ballerina.projects.internal.plugins.CompilerPlugins;
+import io.ballerina.projects.plugins.CompilerPlugin;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.Location;
@@ -41,19 +43,33 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
 import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
@@ -90,6 +106,12 @@ class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    // Checksums of the platform libraries, by the path, size and modified time of the library
+    private static final Map<String, String> PLATFORM_LIBRARY_CHECKSUMS = new ConcurrentHashMap<>();
+    private static volatile String compilerIdentity;
+
+    private String compilationKey;
+    private boolean compilationKeyPending;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -297,10 +319,9 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+        if (this.project().kind() == ProjectKind.BUILD_PROJECT && !isCompilationCached()) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
-        } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+        } else if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -308,6 +329,221 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    private boolean isCompilationKeyTracked() {
+        return this.project.kind() == ProjectKind.BUILD_PROJECT && this.project.buildOptions().enableCache();
+    }
+
+    private boolean isCompilationCached() {
+        if (!isCompilationKeyTracked()) {
+            return false;
+        }
+        Optional<String> cachedCompilationKey = compilationCache.getCompilationKey(moduleDescriptor.name());
+        return cachedCompilationKey.isPresent() && cachedCompilationKey.get().equals(compilationKey());
+    }
+
+    /**
+     * Returns the key of the compilation of this module. This is a hash of everything the BIR and the
+     * platform-specific libraries of the module are generated from, i.e. the compiler build, the compilation
+     * options, the platform libraries and the compiler plugins of the package, the sources and resources of the
+     * module and the keys of its dependencies.
+     *
+     * @return compilation key or null if the dependencies of the module are not resolved yet
+     */
+    String compilationKey() {
+        if (compilationKey != null) {
+            return compilationKey;
+        }
+        if (moduleDependencies == null) {
+            return null;
+        }
+
+        List<String> dependencyKeys = new ArrayList<>();
+        PackageContext packageContext = this.project.currentPackage().packageContext();
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            if (moduleDependency.packageDependency().packageId() != packageContext.packageId()) {
+                // Modules of other packages are identified by the package version, which is immutable
+                dependencyKeys.add(descriptorKey(moduleDependency.descriptor()));
+                continue;
+            }
+            ModuleContext dependencyContext = packageContext.moduleContext(moduleDependency.descriptor().name());
+            String dependencyKey = dependencyContext != null ? dependencyContext.compilationKey() : null;
+            if (dependencyKey == null) {
+                return null;
+            }
+            dependencyKeys.add(dependencyKey);
+        }
+        Collections.sort(dependencyKeys);
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest is not available", e);
+        }
+        updateDigest(digest, compilerIdentity());
+        updateDigest(digest, descriptorKey(moduleDescriptor));
+        updateDigest(digest, compilationOptionsKey(this.project.buildOptions()));
+        addPlatformLibrariesToDigest(digest, packageContext.packageManifest());
+        addCompilerPluginsToDigest(digest, packageContext);
+        addDocumentsToDigest(digest, srcDocContextMap);
+        addDocumentsToDigest(digest, testDocContextMap);
+        addResourcesToDigest(digest, resourceContextMap);
+        addResourcesToDigest(digest, testResourceContextMap);
+        for (String dependencyKey : dependencyKeys) {
+            updateDigest(digest, dependencyKey);
+        }
+        compilationKey = HexFormat.of().formatHex(digest.digest());
+        return compilationKey;
+    }
+
+    private static String compilationOptionsKey(BuildOptions buildOptions) {
+        CompilationOptions options = buildOptions.compilationOptions();
+        return String.join(":", String.valueOf(buildOptions.skipTests()), String.valueOf(options.offlineBuild()),
+                String.valueOf(options.sticky()), String.valueOf(options.observabilityIncluded()),
+                String.valueOf(options.dumpBir()), String.valueOf(options.dumpBirFile()),
+                String.valueOf(options.dumpGraph()), String.valueOf(options.dumpRawGraphs()), options.getCloud(),
+                String.valueOf(options.listConflictedClasses()), String.valueOf(options.withCodeGenerators()),
+                String.valueOf(options.withCodeModifiers()), String.valueOf(options.configSchemaGen()),
+                String.valueOf(options.exportOpenAPI()), String.valueOf(options.exportComponentModel()),
+                String.valueOf(options.enableCache()), String.valueOf(options.disableSyntaxTree()),
+                String.valueOf(options.remoteManagement()));
+    }
+
+    private void addPlatformLibrariesToDigest(MessageDigest digest, PackageManifest packageManifest) {
+        List<String> platformCodes = new ArrayList<>(packageManifest.platforms().keySet());
+        Collections.sort(platformCodes);
+        for (String platformCode : platformCodes) {
+            PackageManifest.Platform platform = packageManifest.platform(platformCode);
+            if (platform == null) {
+                continue;
+            }
+            updateDigest(digest, platformCode);
+            for (Map<String, Object> dependency : platform.dependencies()) {
+                updateDigest(digest, dependency.get(JarLibrary.KEY_GROUP_ID) + ":"
+                        + dependency.get(JarLibrary.KEY_ARTIFACT_ID) + ":" + dependency.get(JarLibrary.KEY_VERSION)
+                        + ":" + dependency.get(JarLibrary.KEY_SCOPE));
+                // Maven dependencies are identified by the version, while a library given by the path can change
+                Object dependencyPath = dependency.get(JarLibrary.KEY_PATH);
+                if (dependencyPath != null) {
+                    Path libraryPath = Path.of(dependencyPath.toString());
+                    if (!libraryPath.isAbsolute()) {
+                        libraryPath = this.project.sourceRoot().resolve(libraryPath);
+                    }
+                    updateDigest(digest, platformLibraryChecksum(libraryPath));
+                }
+            }
+        }
+    }
+
+    private static String platformLibraryChecksum(Path libraryPath) {
+        if (!Files.isRegularFile(libraryPath)) {
+            return "";
+        }
+        try {
+            String fileKey = libraryPath.toAbsolutePath() + ":" + Files.size(libraryPath) + ":"
+                    + Files.getLastModifiedTime(libraryPath).toMillis();
+            String checksum = PLATFORM_LIBRARY_CHECKSUMS.get(fileKey);
+            if (checksum == null) {
+                MessageDigest libraryDigest = MessageDigest.getInstance("SHA-256");
+                checksum = HexFormat.of().formatHex(libraryDigest.digest(Files.readAllBytes(libraryPath)));
+                PLATFORM_LIBRARY_CHECKSUMS.put(fileKey, checksum);
+            }
+            return checksum;
+        } catch (IOException e) {
+            throw new ProjectException("failed to read the platform library: " + libraryPath, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest is not available", e);
+        }
+    }
+
+    private void addCompilerPluginsToDigest(MessageDigest digest, PackageContext packageContext) {
+        // Compiler plugins are engaged by the direct dependencies of the package, which are identified by the version
+        List<String> compilerPlugins = new ArrayList<>();
+        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(this.project.currentPackage(),
+                PackageDependencyScope.DEFAULT);
+        for (ResolvedPackageDependency dependency : packageContext.getResolution().dependencyGraph()
+                .getDirectDependencies(rootPkgNode)) {
+            PackageManifest manifest = dependency.packageInstance().manifest();
+            manifest.compilerPluginDescriptor().ifPresent(pluginDescriptor -> compilerPlugins.add(
+                    manifest.descriptor() + ":" + pluginDescriptor.plugin().getClassName()));
+        }
+        for (CompilerPlugin builtInPlugin : CompilerPlugins.getBuiltInPlugins()) {
+            compilerPlugins.add(builtInPlugin.getClass().getName());
+        }
+        Collections.sort(compilerPlugins);
+        for (String compilerPlugin : compilerPlugins) {
+            updateDigest(digest, compilerPlugin);
+        }
+    }
+
+    /**
+     * Returns the identity of the compiler build. The version is the same across development builds, hence the
+     * compiler jar is identified by its size and modified time. When the compiler is not loaded from a jar, the build
+     * can not be identified and the compilations are keyed only for the current process.
+     */
+    private static String compilerIdentity() {
+        String identity = compilerIdentity;
+        if (identity != null) {
+            return identity;
+        }
+        identity = RepoUtils.getBallerinaVersion() + ":" + UUID.randomUUID();
+        try {
+            CodeSource codeSource = ModuleContext.class.getProtectionDomain().getCodeSource();
+            if (codeSource != null && codeSource.getLocation() != null) {
+                Path compilerJar = Path.of(codeSource.getLocation().toURI());
+                if (Files.isRegularFile(compilerJar)) {
+                    identity = RepoUtils.getBallerinaVersion() + ":" + Files.size(compilerJar) + ":"
+                            + Files.getLastModifiedTime(compilerJar).toMillis();
+                }
+            }
+        } catch (URISyntaxException | IOException | SecurityException | IllegalArgumentException e) {
+            // Fall back to the identity of the current process
+        }
+        compilerIdentity = identity;
+        return identity;
+    }
+
+    private void addDocumentsToDigest(MessageDigest digest, Map<DocumentId, DocumentContext> docContextMap) {
+        for (Map.Entry<DocumentId, DocumentContext> entry : docContextMap.entrySet()) {
+            // The sources are read from the disk, since code generators and modifiers update the sources in memory
+            // only when the package is modified. Documents that do not exist on the disk are generated from those.
+            Optional<Path> documentPath = this.project.documentPath(entry.getKey());
+            if (documentPath.isEmpty() || !Files.isRegularFile(documentPath.get())) {
+                continue;
+            }
+            updateDigest(digest, entry.getValue().name());
+            try {
+                updateDigest(digest, Files.readAllBytes(documentPath.get()));
+            } catch (IOException e) {
+                throw new ProjectException("failed to read the source file: " + documentPath.get(), e);
+            }
+        }
+    }
+
+    private static void addResourcesToDigest(MessageDigest digest, Map<DocumentId, ResourceContext> resourceMap) {
+        List<ResourceContext> resourceContexts = new ArrayList<>(resourceMap.values());
+        resourceContexts.sort(Comparator.comparing(ResourceContext::name));
+        for (ResourceContext resourceContext : resourceContexts) {
+            updateDigest(digest, resourceContext.name());
+            updateDigest(digest, resourceContext.content());
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        updateDigest(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void updateDigest(MessageDigest digest, byte[] value) {
+        // Prefix the length to keep the boundaries of the values
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).array());
+        digest.update(value);
+    }
+
+    private static String descriptorKey(ModuleDescriptor descriptor) {
+        return descriptor.org().value() + "/" + descriptor.packageName().value() + ":" + descriptor.version() + "/"
+                + descriptor.name();
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -460,7 +696,9 @@ class ModuleContext {
             }
         }
 
-        // Note: The BIR and JAR caching should be atomic and so either both should be created or none.
+        // Note: While the code of a whole package is generated, the JAR is cached after this returns, once it is
+        // archived in the background. Hence the BIR can be cached before the JAR, and a failed JAR write leaves
+        // the BIR cached without a JAR.
         ByteArrayOutputStream birContent;
 
         // Skip caching BIR and JAR if there are diagnostics
@@ -468,6 +706,11 @@ class ModuleContext {
             return;
         }
 
+        // The cached compilation is no longer valid once the BIR or the JAR is replaced
+        if (moduleContext.isCompilationKeyTracked()) {
+            moduleContext.compilationCache.invalidateCompilationKey(moduleContext.moduleName());
+        }
+
         // Serialize the BIR  model
         birContent = generateBIR(moduleContext, compilerContext);
 
@@ -489,9 +732,27 @@ class ModuleContext {
         }
 
         // Write the bir to the file system
-        // This code will execute only if JAR caching is successful
+        // This code will execute only if JAR generation is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
         moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        moduleContext.compilationKeyPending = moduleContext.isCompilationKeyTracked();
+    }
+
+    /**
+     * Records the compilation key of the module once its BIR and platform-specific libraries are cached, so that the
+     * next build can load the module from the cache instead of compiling it again.
+     *
+     * @param moduleContext module context
+     */
+    static void cacheCompilationKey(ModuleContext moduleContext) {
+        if (!moduleContext.compilationKeyPending) {
+            return;
+        }
+        moduleContext.compilationKeyPending = false;
+        String compilationKey = moduleContext.compilationKey();
+        if (compilationKey != null) {
+            moduleContext.compilationCache.cacheCompilationKey(moduleContext.moduleName(), compilationKey);
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
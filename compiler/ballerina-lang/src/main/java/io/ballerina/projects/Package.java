@@ -424,6 +424,7 @@ public class Package {
         private TomlDocumentContext compilerPluginTomlContext;
         private TomlDocumentContext balToolTomlContext;
         private MdDocumentContext packageMdContext;
+        private final PackageContext oldPackageContext;
 
         public Modifier(Package oldPackage) {
             this.packageId = oldPackage.packageId();
@@ -439,6 +440,7 @@ public class Package {
             this.compilerPluginTomlContext = oldPackage.packageContext.compilerPluginTomlContext().orElse(null);
             this.balToolTomlContext = oldPackage.packageContext.balToolTomlContext().orElse(null);
             this.packageMdContext = oldPackage.packageContext.packageMdContext().orElse(null);
+            this.oldPackageContext = oldPackage.packageContext;
         }
 
         Modifier updateModules(Set<ModuleContext> newModuleContexts) {
@@ -629,6 +631,7 @@ public class Package {
                     this.cloudTomlContext, this.compilerPluginTomlContext, this.balToolTomlContext,
                     this.packageMdContext, this.compilationOptions, this.moduleContextMap,
                     DependencyGraph.emptyGraph());
+            newPackageContext.carryOverModuleCompilations(this.oldPackageContext);
             this.project.setCurrentPackage(new Package(newPackageContext, this.project));
 
             CompilationOptions offlineCompOptions = CompilationOptions.builder().setOffline(true).build();
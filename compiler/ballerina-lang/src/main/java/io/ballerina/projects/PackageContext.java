@@ -65,8 +65,9 @@ class PackageContext {
     private BuildToolResolution buildToolResolution;
     private PackageCompilation packageCompilation;
 
-    // TODO Try to reuse the unaffected compilations if possible
     private final Map<ModuleId, ModuleCompilation> moduleCompilationMap;
+    // Module compilations of the package this package was modified from, which can be reused for unaffected modules
+    private final Map<ModuleId, ModuleCompilation> previousModuleCompilationMap;
 
     PackageContext(Project project,
                    PackageId packageId,
@@ -94,8 +95,8 @@ class PackageContext {
         this.compilationOptions = compilationOptions;
         this.moduleIds = Collections.unmodifiableCollection(moduleContextMap.keySet());
         this.moduleContextMap = moduleContextMap;
-        // TODO Try to reuse previous unaffected compilations
         this.moduleCompilationMap = new HashMap<>();
+        this.previousModuleCompilationMap = new HashMap<>();
         this.packageDependencies = Collections.emptySet();
         this.pkgDescDependencyGraph = pkgDescDependencyGraph;
     }
@@ -216,7 +217,37 @@ class PackageContext {
 
     ModuleCompilation getModuleCompilation(ModuleContext moduleContext) {
         return moduleCompilationMap.computeIfAbsent(moduleContext.moduleId(),
-                moduleId -> new ModuleCompilation(this, moduleContext));
+                moduleId -> reuseOrCreateModuleCompilation(moduleContext));
+    }
+
+    private ModuleCompilation reuseOrCreateModuleCompilation(ModuleContext moduleContext) {
+        ModuleCompilation previousCompilation = previousModuleCompilationMap.remove(moduleContext.moduleId());
+        if (previousCompilation != null) {
+            // Resolve the dependencies of this package before checking the dependencies of the compilation
+            getResolution();
+            if (previousCompilation.isReusableFor(moduleContext)) {
+                return previousCompilation;
+            }
+        }
+        return new ModuleCompilation(this, moduleContext);
+    }
+
+    /**
+     * Carries over the module compilations of the package this package was modified from. A carried over compilation
+     * is reused only if neither the module nor its dependencies were affected by the modification.
+     * <p>
+     * Only the compilations requested from the previous package are carried over, and each is consulted once, so
+     * the compilations of older packages are not kept alive across edits.
+     *
+     * @param previousPackageContext package context this package was modified from
+     */
+    void carryOverModuleCompilations(PackageContext previousPackageContext) {
+        for (ModuleId moduleId : this.moduleIds) {
+            ModuleCompilation moduleCompilation = previousPackageContext.moduleCompilationMap.get(moduleId);
+            if (moduleCompilation != null) {
+                this.previousModuleCompilationMap.put(moduleId, moduleCompilation);
+            }
+        }
     }
 
     PackageCompilation getPackageCompilation() {
@@ -24,14 +24,16 @@ import io.ballerina.projects.ModuleName;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
 /**
@@ -44,13 +46,17 @@ import java.util.Optional;
  * - version
  * - bir
  * - mod1.bir
+ * - mod1.key
  * - mod2.bir
+ * - mod2.key
  * - jar
  * - org-package-name-version.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String COMPILATION_KEY_EXT = ".key";
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -78,19 +84,74 @@ public class FileSystemCache extends CompilationCache {
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
-            try {
-                File tempBirFile = birPath.resolve(".tmp").toFile();
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(tempBirFile, birContent.toByteArray());
-                FileUtils.moveFile(tempBirFile, birFilePath.toFile());
-            } catch (IOException e) {
-                // TODO proper error handling
-                throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
-            }
+        // The cached BIR is replaced since a module is compiled again only if its cached compilation is stale
+        createDirectories(birPath);
+        Path tempBirFilePath = null;
+        try {
+            // A unique temporary file is used so that concurrent writers do not overwrite each others' content
+            tempBirFilePath = Files.createTempFile(birPath, moduleName.toString(), ".tmp");
+            Files.write(tempBirFilePath, birContent.toByteArray());
+            Files.move(tempBirFilePath, birFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(tempBirFilePath);
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getCompilationKey(ModuleName moduleName) {
+        Path keyFilePath = getCompilationKeyPath(moduleName);
+        if (!Files.exists(keyFilePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Files.readString(keyFilePath));
+        } catch (IOException e) {
+            // The compilation is considered not cached if the key cannot be read
+            return Optional.empty();
         }
     }
 
+    @Override
+    public void cacheCompilationKey(ModuleName moduleName, String compilationKey) {
+        try {
+            FileUtils.writeStringToFile(getCompilationKeyPath(moduleName).toFile(), compilationKey,
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // The compilation is left not cached. A partially written key never matches the compilation key of the
+            // module, hence the module is compiled again in the next build.
+            deleteQuietly(getCompilationKeyPath(moduleName));
+        }
+    }
+
+    @Override
+    public void invalidateCompilationKey(ModuleName moduleName) {
+        try {
+            Files.deleteIfExists(getCompilationKeyPath(moduleName));
+        } catch (IOException e) {
+            // The cached compilation is about to be replaced, hence a key that remains could mark a partially
+            // replaced compilation as up to date
+            throw new ProjectException("Failed to remove the compilation key of module '" + moduleName
+                    + "' from the compilation cache: " + e.getMessage(), e);
+        }
+    }
+
+    private static void deleteQuietly(Path filePath) {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private Path getCompilationKeyPath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + COMPILATION_KEY_EXT);
+    }
+
     @Override
     public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
         String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
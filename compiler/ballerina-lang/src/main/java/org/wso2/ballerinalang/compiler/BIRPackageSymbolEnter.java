@@ -104,7 +104,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -174,7 +173,7 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = definePackage(packageId, new BIRInputStream(packageBinaryContent));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -186,12 +185,13 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, BIRInputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.birInStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -314,6 +314,8 @@ public class BIRPackageSymbolEnter {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.unparsedBTypeCPOffsets = new int[constantPoolSize];
+        this.env.unparsedBTypeCPLengths = new int[constantPoolSize];
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
@@ -349,7 +351,11 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
             case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
+                // Only record where the shape is in the BIR content; it is decoded on first use.
+                int shapeLength = dataInStream.readInt();
+                env.unparsedBTypeCPOffsets[i] = env.birInStream.position();
+                env.unparsedBTypeCPLengths[i] = shapeLength;
+                dataInStream.skipNBytes(shapeLength);
                 return null;
             case CP_ENTRY_BYTE:
                 return new CPEntry.ByteCPEntry(dataInStream.readInt());
@@ -359,13 +365,6 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
-        int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
-    }
-
     private void defineSymbols(DataInputStream dataInStream,
                                Consumer<DataInputStream> symbolDefineFunc) throws IOException {
         int symbolCount = dataInStream.readInt();
@@ -671,8 +670,8 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            type = new BIRTypeReader(new DataInputStream(env.birInStream.slice(env.unparsedBTypeCPOffsets[typeCpIndex],
+                    env.unparsedBTypeCPLengths[typeCpIndex]))).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
         return type;
@@ -1113,7 +1112,9 @@ public class BIRPackageSymbolEnter {
      */
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        BIRInputStream birInStream;
+        int[] unparsedBTypeCPOffsets;
+        int[] unparsedBTypeCPLengths;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -1123,6 +1124,27 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    /**
+     * Input stream over the BIR content of a module, which exposes the read position so that constant pool entries
+     * can be referred to by their offset instead of being copied out of the content.
+     *
+     * @since 2201.10.0
+     */
+    private static class BIRInputStream extends ByteArrayInputStream {
+
+        BIRInputStream(byte[] content) {
+            super(content);
+        }
+
+        int position() {
+            return this.pos;
+        }
+
+        ByteArrayInputStream slice(int offset, int length) {
+            return new ByteArrayInputStream(this.buf, offset, length);
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
@@ -590,6 +590,7 @@ public class JvmCodeGenUtil {
                                                     Set<BirScope> visitedScopesSet, BirScope lastScope) {
 
         int insCount = bb.instructions.size();
+        instGen.startBasicBlock();
         for (int i = 0; i < insCount; i++) {
             Label insLabel = labelGen.getLabel(funcName + bb.id.value + "ins" + i);
             mv.visitLabel(insLabel);
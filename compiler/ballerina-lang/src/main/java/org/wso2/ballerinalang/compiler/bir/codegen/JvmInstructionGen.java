@@ -47,6 +47,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
@@ -79,6 +80,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -102,6 +104,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -273,6 +276,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -297,6 +301,8 @@ public class JvmInstructionGen {
     private final JvmTypeTestGen typeTestGen;
     private final Map<String, String> functions;
     private final String moduleInitClass;
+    // Constant load generated right before the current instruction, within the same basic block.
+    private BIRNonTerminator.ConstantLoad precedingConstantLoad;
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -1476,10 +1482,12 @@ public class JvmInstructionGen {
         }
     }
 
-    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns) {
+    void generateMapLoadIns(BIRNonTerminator.FieldAccess mapLoadIns, BIRNonTerminator.ConstantLoad keyLoad) {
+        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
+        Label endLabel = generateRecordFieldLoad(mapLoadIns, varRefType, keyLoad);
+
         // visit map_ref
         this.loadVar(mapLoadIns.rhsOp.variableDcl);
-        BType varRefType = JvmCodeGenUtil.getImpliedType(mapLoadIns.rhsOp.variableDcl.type);
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
         // visit key_expr
@@ -1507,6 +1515,51 @@ public class JvmInstructionGen {
             jvmCastGen.addUnboxInsn(this.mv, targetType);
         }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
+        if (endLabel != null) {
+            this.mv.visitLabel(endLabel);
+        }
+    }
+
+    /**
+     * Generates a direct read of a required record field, when the field name is a constant and the record value
+     * class is generated in the current module. The field is read from the value class field if the value is an
+     * instance of that class, otherwise control falls through to the generic map lookup that follows.
+     *
+     * @param mapLoadIns map load instruction
+     * @param varRefType implied type of the map reference
+     * @param keyLoad    constant load right before the map load, if any
+     * @return label to jump to after the direct read, or null if no direct read was generated
+     */
+    private Label generateRecordFieldLoad(BIRNonTerminator.FieldAccess mapLoadIns, BType varRefType,
+                                          BIRNonTerminator.ConstantLoad keyLoad) {
+        if (varRefType.tag != TypeTags.RECORD || mapLoadIns.fillingRead || mapLoadIns.optionalFieldAccess ||
+                keyLoad == null || keyLoad.lhsOp.variableDcl != mapLoadIns.keyOp.variableDcl ||
+                !(keyLoad.value instanceof String fieldName)) {
+            return null;
+        }
+        String className = jvmPackageGen.lookupRecordValueClassName(varRefType);
+        BField field = ((BRecordType) varRefType).fields.get(fieldName);
+        if (className == null || field == null || isOptionalRecordField(field)) {
+            return null;
+        }
+        BIRNode.BIRVariableDcl targetVar = mapLoadIns.lhsOp.variableDcl;
+        String fieldDesc = getTypeDesc(field.type);
+        if (!fieldDesc.equals(getTypeDesc(targetVar.type))) {
+            return null;
+        }
+
+        Label genericLoadLabel = new Label();
+        Label endLabel = new Label();
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        this.mv.visitTypeInsn(INSTANCEOF, className);
+        this.mv.visitJumpInsn(IFEQ, genericLoadLabel);
+        this.loadVar(mapLoadIns.rhsOp.variableDcl);
+        this.mv.visitTypeInsn(CHECKCAST, className);
+        this.mv.visitFieldInsn(GETFIELD, className, fieldName, fieldDesc);
+        this.storeToVar(targetVar);
+        this.mv.visitJumpInsn(GOTO, endLabel);
+        this.mv.visitLabel(genericLoadLabel);
+        return endLabel;
     }
 
     boolean generateMapGet(BType mapType, BType expectedType) {
@@ -2267,6 +2320,10 @@ public class JvmInstructionGen {
         this.storeToVar(loadIns.lhsOp.variableDcl);
     }
 
+    void startBasicBlock() {
+        this.precedingConstantLoad = null;
+    }
+
     private void loadListInitialValues(BIRNonTerminator.NewArray arrayNewIns) {
         List<BIRNode.BIRListConstructorEntry> initialValues = arrayNewIns.values;
         mv.visitLdcInsn((long) initialValues.size());
@@ -2320,6 +2377,9 @@ public class JvmInstructionGen {
     }
 
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
+        BIRNonTerminator.ConstantLoad constantLoad = this.precedingConstantLoad;
+        this.precedingConstantLoad = inst.getKind() == InstructionKind.CONST_LOAD ?
+                (BIRNonTerminator.ConstantLoad) inst : null;
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
         } else {
@@ -2355,7 +2415,7 @@ public class JvmInstructionGen {
                     generateArrayStoreIns((FieldAccess) inst);
                     break;
                 case MAP_LOAD:
-                    generateMapLoadIns((FieldAccess) inst);
+                    generateMapLoadIns((FieldAccess) inst, constantLoad);
                     break;
                 case ARRAY_LOAD:
                     generateArrayValueLoad((FieldAccess) inst);
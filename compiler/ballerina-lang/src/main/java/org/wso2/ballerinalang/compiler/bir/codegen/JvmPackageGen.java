@@ -75,6 +75,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -124,6 +125,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CRE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.injectDefaultParamInitsToAttachedFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.createExternalFunctionWrapper;
@@ -147,6 +149,7 @@ public class JvmPackageGen {
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> globalVarClassMap;
     private final Set<PackageID> dependentModules;
+    private final Map<BType, String> recordValueClassMap;
     private final BLangDiagnosticLog dlog;
     private final Types types;
     private final boolean isRemoteMgtEnabled;
@@ -156,6 +159,7 @@ public class JvmPackageGen {
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
         dependentModules = new LinkedHashSet<>();
+        recordValueClassMap = new IdentityHashMap<>();
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
@@ -251,7 +255,7 @@ public class JvmPackageGen {
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         if (isInitClass) {
             setConstantFields(mv, birPackage, jvmConstantsGen);
-            setLockStoreField(mv, className);
+            setLockStoreField(mv, className, birPackage.packageID);
             setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
             setModuleStatusField(cw, mv, className);
             setCurrentModuleField(cw, mv, jvmConstantsGen, birPackage.packageID, className);
@@ -271,11 +275,13 @@ public class JvmPackageGen {
                 VOID_METHOD_DESC, false);
     }
 
-    private static void setLockStoreField(MethodVisitor mv, String className) {
+    private static void setLockStoreField(MethodVisitor mv, String className, PackageID packageID) {
         String lockStoreClass = "L" + LOCK_STORE + ";";
         mv.visitTypeInsn(NEW, LOCK_STORE);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        // the module name is used to tag the contention metrics of the locks
+        mv.visitLdcInsn(packageID.toString());
+        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, INIT_WITH_STRING, false);
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, lockStoreClass);
     }
 
@@ -650,6 +656,28 @@ public class JvmPackageGen {
         birFunctionMap.clear();
         globalVarClassMap.clear();
         dependentModules.clear();
+        recordValueClassMap.clear();
+    }
+
+    private void linkRecordValueClasses(BIRPackage module) {
+        String pkgName = JvmCodeGenUtil.getPackageName(module.packageID);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.type.tag == TypeTags.RECORD) {
+                recordValueClassMap.put(typeDef.type,
+                        JvmValueGen.getTypeValueClassName(pkgName, typeDef.internalName.value));
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the value class generated for the given record type, if the type is defined in the module
+     * being generated.
+     *
+     * @param recordType record type
+     * @return value class name, or null if the value class belongs to another module
+     */
+    String lookupRecordValueClassName(BType recordType) {
+        return recordValueClassMap.get(recordType);
     }
 
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
@@ -759,6 +787,7 @@ public class JvmPackageGen {
         removeSourceAnnotationTypeDefs(module.typeDefs);
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
+        linkRecordValueClasses(module);
 
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, typeHashVisitor, types);
@@ -48,6 +48,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYP
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FLOAT_TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FRAME_STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_PARAMETER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
@@ -103,7 +104,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RUNTIME_R
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SCHEDULER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SERVICE_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_METADATA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STREAM_VALUE;
@@ -368,6 +368,7 @@ public class JvmSignatures {
     public static final String LOAD_UNION_TYPE = "L" + UNION_TYPE + ";";
     public static final String LOAD_XML_TYPE = "L" + XML_TYPE + ";";
     public static final String LOCK = "(L" + STRAND_CLASS + ";)Z";
+    public static final String UNLOCK_SHARED = "(L" + STRAND_CLASS + ";)V";
     public static final String LONG_STREAM_RANGE_CLOSED = "(JJ)L" + LONG_STREAM + ";";
     public static final String LONG_TO_STRING = "(J)L" + STRING_VALUE + ";";
     public static final String LONG_VALUE_OF = "(J)L" + LONG_VALUE + ";";
@@ -402,7 +403,7 @@ public class JvmSignatures {
             "(L" + FUNCTION_POINTER + ";L" + MAP_VALUE + ";L" + STRING_VALUE + ";)V";
     public static final String PROCESS_OBJ_CTR_ANNOTATIONS =
             "(L" + OBJECT_TYPE_IMPL + ";L" + MAP_VALUE + ";L" + STRAND_CLASS + ";)V";
-    public static final String STACK_FRAMES = "L" + STACK + ";";
+    public static final String STACK_FRAMES = "L" + FRAME_STACK + ";";
     public static final String RECORD_GET = "(L" + STRING_VALUE + ";L" + OBJECT + ";)L" + OBJECT + ";";
     public static final String RECORD_GET_KEYS = "()[L" + OBJECT + ";";
     public static final String RECORD_INIT_WRAPPER = "(L" + STRAND_CLASS + ";L" + MAP_VALUE + ";)V";
@@ -375,6 +375,9 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        // Set by the lock optimizer when the lock statement only reads the values it guards.
+        public boolean readOnly;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
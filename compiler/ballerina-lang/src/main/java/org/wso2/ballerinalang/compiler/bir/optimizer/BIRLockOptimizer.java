@@ -18,12 +18,21 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -31,22 +40,123 @@ import java.util.Set;
 
 /**
  * Optimize Locks.
+ * <p>
+ * Locks that share a global variable are merged into a single lock, and the rest get disjoint locks. Lock statements
+ * that only read the variables they guard are marked read-only, so that they share the lock with each other.
  *
  * @since 1.2.1
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    // Lang library functions that neither mutate their arguments nor call back into user code. The string conversion
+    // functions are left out, as they call the toString method of objects.
+    private static final Set<String> READ_ONLY_LANG_LIB_FUNCTIONS = Set.of("length", "get", "hasKey", "keys",
+            "clone", "cloneReadOnly", "isReadOnly", "indexOf", "lastIndexOf", "slice", "substring", "startsWith",
+            "endsWith", "includes", "toArray", "entries");
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
     private int setId = -1;
 
     public void optimizeNode(BIRNode node) {
+        int firstLockIndex = lockList.size();
+
         // Collect lock nodes
         node.accept(this);
 
         // Identify disjoint locks
         optimizeLocks();
+
+        // Identify read-only locks
+        for (int i = firstLockIndex; i < lockList.size(); i++) {
+            BIRTerminator.Lock lock = lockList.get(i);
+            lock.readOnly = isReadOnlyLock(lock);
+        }
+    }
+
+    /**
+     * Checks whether the body of a lock statement is free of writes to global variables, structure stores and calls
+     * that could mutate values or acquire a lock. A strand holding a read-only lock cannot then try to acquire the
+     * same lock exclusively, which would wait for itself to release the shared lock.
+     *
+     * @param lock lock terminator of the lock statement
+     * @return true if the lock statement only reads the values it guards
+     */
+    private boolean isReadOnlyLock(BIRTerminator.Lock lock) {
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> pending = new ArrayDeque<>();
+        pending.add(lock.lockedBB);
+        while (!pending.isEmpty()) {
+            BIRNode.BIRBasicBlock basicBlock = pending.poll();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null || !isReadOnlyTerminator(terminator)) {
+                return false;
+            }
+            if (terminator.kind == InstructionKind.UNLOCK && ((BIRTerminator.Unlock) terminator).relatedLock == lock) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock next : terminator.getNextBasicBlocks()) {
+                if (next != null) {
+                    pending.add(next);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+            case TABLE_STORE:
+            case PLATFORM:
+                return false;
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+                // A filling read adds the missing member to the container.
+                if (instruction instanceof BIRNonTerminator.FieldAccess fieldAccess && fieldAccess.fillingRead) {
+                    return false;
+                }
+                break;
+            default:
+                break;
+        }
+        return !isGlobalVarWrite(instruction);
+    }
+
+    private boolean isReadOnlyTerminator(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+            case LOCK:
+            case UNLOCK:
+                return true;
+            case CALL:
+                BIRTerminator.Call call = (BIRTerminator.Call) terminator;
+                return !call.isVirtual && PackageID.isLangLibPackageID(call.calleePkg) &&
+                        READ_ONLY_LANG_LIB_FUNCTIONS.contains(call.name.value) && !isGlobalVarWrite(call);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isGlobalVarWrite(BIRAbstractInstruction instruction) {
+        BIROperand lhsOp = instruction.lhsOp;
+        return lhsOp != null && lhsOp.variableDcl != null && lhsOp.variableDcl.kind == VarKind.GLOBAL;
     }
 
     private void optimizeLocks() {
@@ -559,7 +559,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, doFunc);
                     break;
                 case LIMIT:
-                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
+                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause,
+                            initFromClause.pos);
                     addStreamFunction(block, initPipeline, limitFunc);
                     break;
                 case ON_CONFLICT:
@@ -985,17 +986,58 @@ public class QueryDesugar extends BLangNodeVisitor {
      *
      * @param blockStmt parent block to write to.
      * @param limitClause  to be desugared.
+     * @param queryPos  pos of the first clause of the query.
      * @return variableReference to created do _StreamFunction.
      */
-    BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+    BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause,
+                                            Location queryPos) {
         Location pos = limitClause.pos;
+        BLangLiteral isFrameIndependent = ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
+                isFrameIndependent(limitClause.expression, queryPos, pos));
         BLangUnionTypeNode returnTypeNode = getIntErrorTypeNode();
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.expr = types.addConversionExprIfRequired(limitClause.expression, returnTypeNode.getBType());
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, returnTypeNode, returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION,
+                Lists.of(limitFunction, isFrameIndependent), pos);
+    }
+
+    /**
+     * Checks whether the limit expression evaluates to the same value for every frame without side effects, i.e. it
+     * is a literal, a constant or a variable that is not declared within the query clauses.
+     * Only such a limit can bound the frames buffered by a preceding order by clause.
+     *
+     * @param expr     limit expression.
+     * @param queryPos pos of the first clause of the query.
+     * @param limitPos pos of the limit clause.
+     * @return whether the limit expression is independent of the frames.
+     */
+    private boolean isFrameIndependent(BLangExpression expr, Location queryPos, Location limitPos) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case GROUP_EXPR:
+                return isFrameIndependent(((BLangGroupExpr) expr).expression, queryPos, limitPos);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                // Variables declared between the first clause and the limit clause belong to the frames.
+                Location symbolPos = symbol.pos;
+                return symbolPos != null && (!symbolPos.lineRange().fileName().equals(
+                        queryPos.lineRange().fileName()) ||
+                        symbolPos.textRange().startOffset() < queryPos.textRange().startOffset() ||
+                        symbolPos.textRange().startOffset() > limitPos.textRange().endOffset());
+            default:
+                return false;
+        }
     }
 
     /**
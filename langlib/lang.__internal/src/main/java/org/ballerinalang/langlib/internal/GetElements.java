@@ -103,7 +103,7 @@ public class GetElements {
             // .<ns:*>
             if (eName.equals(STAR)) {
                 int index = elementName.lastIndexOf('}');
-                if (index > 0 && elementName.substring(1, index).equals(ns)) {
+                if (index == ns.length() + 1 && elementName.startsWith(ns, 1)) {
                     return true;
                 }
             }
@@ -55,7 +55,7 @@ public class GetFilteredChildrenFlat {
     }
 
     private static List<BXml> filterElementChildren(long index, BString[] elemNames, BXmlItem element) {
-        BXmlSequence elements = (BXmlSequence) GetElements.getElements(element.getChildrenSeq(), elemNames);
+        BXmlSequence elements = (BXmlSequence) getElementChildren(elemNames, element);
         if (index < 0) {
             // Return all elements
             return elements.getChildrenList();
@@ -67,4 +67,15 @@ public class GetFilteredChildrenFlat {
             return new ArrayList<>();
         }
     }
+
+    private static BXml getElementChildren(BString[] elemNames, BXmlItem element) {
+        if (elemNames.length == 1) {
+            String name = elemNames[0].getValue();
+            // Children with a single name can be looked up from the index of the element.
+            if (!name.endsWith(GetElements.STAR) && !name.startsWith("{}")) {
+                return element.children(name);
+            }
+        }
+        return GetElements.getElements(element.getChildrenSeq(), elemNames);
+    }
 }
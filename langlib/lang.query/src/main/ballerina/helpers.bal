@@ -84,8 +84,9 @@ function createDoFunction(function(_Frame _frame) returns any|error doFunc) retu
     return new _DoFunction(doFunc);
 }
 
-function createLimitFunction(function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
-    return new _LimitFunction(limitFunction);
+function createLimitFunction(function (_Frame _frame) returns int limitFunction,
+        boolean isFrameIndependent) returns _StreamFunction {
+    return new _LimitFunction(limitFunction, isFrameIndependent);
 }
 
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
@@ -350,3 +351,23 @@ public isolated function getQueryErrorRootCause(error err) returns error {
     error? cause = error:cause(err);
     return cause is error ? cause : err;
 }
+
+function createJoinKeyIndex() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "create"
+} external;
+
+function getFromJoinKeyIndex(handle index, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "get"
+} external;
+
+function putToJoinKeyIndex(handle index, any key, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinKeyIndex",
+    name: "put"
+} external;
+
+function mergeFrames(_Frame lhs, _Frame|record {|(any|error) value;|} rhs) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.Frames",
+    name: "merge"
+} external;
@@ -106,6 +106,11 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
+        if (streamFunction is _LimitFunction && streamFunction.isFrameIndependent
+                && existingFunc is _OrderByFunction) {
+            // `order by ... limit n` only needs the first n ordered frames, when n is the same for every frame.
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
     }
@@ -257,11 +262,7 @@ class _NestedFromFunction {
         if (cf is _Frame && itr is _Iterator) {
             record {|(any|error) value;|}|error? v = itr.next();
             if (v is record {|(any|error) value;|}) {
-                _Frame _frame = {...cf};
-                foreach var [k, val] in v.entries() {
-                    _frame[k] = val;
-                }
-                return _frame;
+                return mergeFrames(cf, v);
             } else if (v is error) {
                 return prepareCompleteEarlyError(v);
             } else {
@@ -346,7 +347,9 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
+    _Frame? lhsFrame = ();
+    _Frame[]? rhsCandidates = ();
+    int rhsIndex = 0;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -355,7 +358,6 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +366,7 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -376,50 +378,45 @@ class _InnerJoinFunction {
     # Desugared function to do;
     # from var ... in listA from from var ... in listB
     # join var ... in streamA join var ... in streamB
+    # Joined frames are produced one at a time, so only the indexed rhs frames are held in memory.
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
-
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
+        error? failureAtJoin = self.failureAtJoin;
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        while true {
+            _Frame? lhsFrame = self.lhsFrame;
+            _Frame[]? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is _Frame[] && self.rhsIndex < rhsCandidates.length()) {
+                _Frame rhsFrame = rhsCandidates[self.rhsIndex];
+                self.rhsIndex += 1;
+                return mergeFrames(lhsFrame, rhsFrame);
             }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
-                if (lhsKFRes is error) {
-                    return prepareQueryBodyError(lhsKFRes);
-                }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+            // Current lhs frame is exhausted, move to the next lhs frame that has matching rhs frames.
+            _Frame|error? nextLhsFrame = pf.process();
+            if (nextLhsFrame is error?) {
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
-        }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+            any|error lhsKFRes = lhsKF(nextLhsFrame);
+            if (lhsKFRes is error) {
+                return prepareQueryBodyError(lhsKFRes);
+            }
+            self.lhsFrame = nextLhsFrame;
+            self.rhsCandidates = self.rhsFramesMap.get(lhsKFRes);
+            self.rhsIndex = 0;
         }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        self.rhsIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -433,6 +430,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -454,7 +452,7 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                self.rhsFramesMap.put(rhsKeyFuncResult, f);
                 f = pipelineToJoin.next();
             }
         }
@@ -475,7 +473,6 @@ class _OuterJoinFunction {
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -487,38 +484,29 @@ class _OuterJoinFunction {
         }
 
         if (lhsFrame is _Frame) {
-            any|error lhsKFRes = lhsKF(lhsFrame);
-            if (lhsKFRes is error) {
-                return prepareQueryBodyError(lhsKFRes);
-            }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                any|error lhsKFRes = lhsKF(lhsFrame);
+                if (lhsKFRes is error) {
+                    return prepareQueryBodyError(lhsKFRes);
+                }
+                rhsCandidates = rhsFramesMap.get(lhsKFRes);
                 self.rhsCandidates = rhsCandidates;
+                self.rhsIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+                _Frame rhsFrame = rhsCandidates[self.rhsIndex];
+                self.rhsIndex += 1;
+                if (self.rhsIndex >= rhsCandidates.length()) {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+                return mergeFrames(lhsFrame, rhsFrame);
             } else {
                 // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
                 self.lhsFrame = ();
-                return joinedFrame;
+                return mergeFrames(lhsFrame, nilFrame);
             }
         }
         return lhsFrame;
@@ -528,6 +516,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -581,6 +570,8 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
+    # Limit of the immediately following limit clause, if any.
+    (function (_Frame _frame) returns int|error)? limitFunc = ();
     stream<_Frame>? orderedStream;
 
     function init(function (_Frame _frame) returns error? orderKeyFunc) {
@@ -594,15 +585,38 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
             _OrderTreeNode oTree = new;
+            int? bound = f is _Frame ? self.getBound(f) : ();
+            int bufferedCount = 0;
             // consume all events for ordering.
             while (f is _Frame) {
                 error? res = orderKeyFunc(f);
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                if (bound is int) {
+                    // Keep a copy of the order keys, as adding to the tree consumes them and retained frames
+                    // are added again when the buffer is compacted.
+                    any[] directions = <any[]>(checkpanic f["$orderDirection$"]);
+                    any[] keys = <any[]>(checkpanic f["$orderKey$"]);
+                    f["$orderDirection$"] = directions.slice(0);
+                    f["$orderKey$"] = keys.slice(0);
+                    oTree.add(f, directions, keys);
+                    bufferedCount += 1;
+                    if (bufferedCount - bound >= bound) {
+                        // Only the first `bound` frames can be emitted, drop the rest. Retained frames are added
+                        // back in order, so frames with equal keys keep their relative order.
+                        _Frame[] retained = oTree.get().slice(0, bound);
+                        oTree = new;
+                        foreach _Frame r in retained {
+                            oTree.add(r, (<any[]>(checkpanic r["$orderDirection$"])).slice(0),
+                                    (<any[]>(checkpanic r["$orderKey$"])).slice(0));
+                        }
+                        bufferedCount = bound;
+                    }
+                } else {
+                    oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                }
                 f = pf.process();
             }
             if (f is error) {
@@ -619,6 +633,20 @@ class _OrderByFunction {
         return f;
     }
 
+    # Returns the number of ordered frames the following limit clause can emit, or nil when all frames are
+    # needed. Invalid limits are left to the limit clause to report.
+    function getBound(_Frame f) returns int? {
+        (function (_Frame _frame) returns int|error)? limitFunc = self.limitFunc;
+        if (limitFunc is ()) {
+            return ();
+        }
+        int|error lmt = limitFunc(f);
+        if (lmt is int && lmt > 0) {
+            return lmt;
+        }
+        return ();
+    }
+
     public function reset() {
         self.orderedStream = ();
         _StreamFunction? pf = self.prevFunc;
@@ -877,10 +905,13 @@ class _LimitFunction {
 
     # Desugared function to limit the number of results
     function (_Frame _frame) returns int|error limitFunc;
+    # Whether the limit is the same for every frame and can be evaluated without side effects
+    boolean isFrameIndependent;
     public int count = 0;
 
-    function init(function (_Frame _frame) returns int limitFunc) {
+    function init(function (_Frame _frame) returns int limitFunc, boolean isFrameIndependent = false) {
         self.limitFunc = limitFunc;
+        self.isFrameIndependent = isFrameIndependent;
         self.prevFunc = ();
     }
 
@@ -918,33 +949,25 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle index;
 
     function init() {
-        self.m = {};
+        self.index = createJoinKeyIndex();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
+    function put(any k, _Frame v) {
+        _Frame[]? vals = getFromJoinKeyIndex(self.index, k);
         if (vals is _Frame[]) {
             vals.push(v);
         } else {
-            self.m[k] = [v];
+            putToJoinKeyIndex(self.index, k, [v]);
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Returns the frames indexed against the given key. The returned array is shared with the index,
+    # hence callers should only read from it.
+    function get(any k) returns _Frame[]? {
+        return getFromJoinKeyIndex(self.index, k);
     }
 
 }
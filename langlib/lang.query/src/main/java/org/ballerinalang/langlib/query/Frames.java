@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.util.Map;
+
+/**
+ * Native helpers to build query frames. Frames produced by nested from and join clauses are merged here in a
+ * single pass, without materialising the intermediate entry maps and tuples {@code map:entries()} would create.
+ *
+ * @since 2201.10.0
+ */
+public class Frames {
+
+    private Frames() {
+    }
+
+    /**
+     * Creates a new frame holding the entries of {@code lhs} followed by the entries of {@code rhs}. Entries of
+     * {@code rhs} override entries of {@code lhs} with the same key.
+     *
+     * @param lhs frame to extend
+     * @param rhs frame with the entries to add
+     * @return merged frame, of the same type as {@code lhs}
+     */
+    public static BMap<BString, Object> merge(BMap<BString, Object> lhs, BMap<BString, Object> rhs) {
+        MapValueImpl<BString, Object> merged = new MapValueImpl<>(lhs.getType());
+        for (Map.Entry<BString, Object> entry : lhs.entrySet()) {
+            merged.put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<BString, Object> entry : rhs.entrySet()) {
+            merged.put(entry.getKey(), entry.getValue());
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.RegExpValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the right hand side frames of a join, keyed by the value of the join key. Keys are hashed and compared
+ * using the semantics of the {@code ==} operator, hence the frames can be looked up without converting the keys to
+ * strings.
+ *
+ * @since 2201.10.0
+ */
+public class JoinKeyIndex {
+
+    /**
+     * Structured keys are only hashed up to this depth. Equal values have the same shape up to any depth, hence
+     * this keeps the hash consistent with equality while bounding the cost for large and cyclic values.
+     */
+    private static final int MAX_HASH_DEPTH = 4;
+
+    private final Map<JoinKey, BArray> frames = new HashMap<>();
+
+    public static JoinKeyIndex create() {
+        return new JoinKeyIndex();
+    }
+
+    public static BArray get(JoinKeyIndex index, Object key) {
+        return index.frames.get(new JoinKey(key));
+    }
+
+    public static void put(JoinKeyIndex index, Object key, BArray frames) {
+        index.frames.put(new JoinKey(key), frames);
+    }
+
+    static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // int and byte values are equal if the numeric values are equal.
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double doubleValue) {
+            // -0.0 == 0.0 and NaN == NaN, hence those need to have the same hash.
+            if (doubleValue == 0 || doubleValue.isNaN()) {
+                return 0;
+            }
+            return doubleValue.hashCode();
+        }
+        if (value instanceof DecimalValue decimalValue) {
+            if (!TypeChecker.checkDecimalEqual(decimalValue, decimalValue)) {
+                return 0;
+            }
+            return decimalValue.decimalValue().stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BString || value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (value instanceof RegExpValue regExpValue) {
+            return regExpValue.stringValue(null).hashCode();
+        }
+        if (depth == MAX_HASH_DEPTH) {
+            return 0;
+        }
+        int tag = TypeUtils.getImpliedType(TypeChecker.getType(value)).getTag();
+        switch (tag) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.JSON_TAG:
+                // Mapping equality does not depend on the order of the fields.
+                int mapHash = 0;
+                for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                    mapHash += entry.getKey().hashCode() ^ hash(entry.getValue(), depth + 1);
+                }
+                return mapHash;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                BArray array = (BArray) value;
+                int arrayHash = 1;
+                for (long i = 0, length = array.getLength(); i < length; i++) {
+                    arrayHash = 31 * arrayHash + hash(array.get(i), depth + 1);
+                }
+                return arrayHash;
+            case TypeTags.TABLE_TAG:
+                int tableHash = 0;
+                for (Object member : ((BTable<?, ?>) value).values()) {
+                    tableHash += hash(member, depth + 1);
+                }
+                return tableHash;
+            default:
+                // Equality of xml values does not match their string representations, hence these and any other
+                // values are put in the same bucket and left to be compared for equality.
+                return 0;
+        }
+    }
+
+    /**
+     * Join key which uses the {@code ==} semantics for equality.
+     */
+    private static class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = JoinKeyIndex.hash(value, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof JoinKey other)) {
+                return false;
+            }
+            return this.hash == other.hash && TypeChecker.isEqual(this.value, other.value);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.regexp;
+
+import io.ballerina.runtime.internal.values.RegExpValue;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded LRU cache of the {@link Pattern}s compiled for Ballerina regular expressions, keyed by the translated
+ * string value of the regular expression and the compile flags. This avoids compiling the same regular expression on
+ * every lang.regexp operation.
+ *
+ * @since 2201.10.0
+ */
+class RegExpPatternCache {
+
+    static final int MAX_SIZE = 1000;
+
+    private static final Map<PatternKey, Pattern> patterns = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+            if (size() <= MAX_SIZE) {
+                return false;
+            }
+            evictions.increment();
+            return true;
+        }
+    };
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final AtomicBoolean metricsRegistered = new AtomicBoolean(false);
+
+    private RegExpPatternCache() {
+    }
+
+    /**
+     * Returns the compiled pattern for the given regular expression, compiling and caching it if needed.
+     *
+     * @param regExpValue regular expression
+     * @param flags       {@link Pattern} match flags
+     * @return compiled pattern
+     */
+    static Pattern getPattern(RegExpValue regExpValue, int flags) {
+        registerMetrics();
+        // The translation maps the required ballerina regexp constructs to java and is memoised on the value.
+        PatternKey key = new PatternKey(regExpValue.getTranslatedRegExp(), flags);
+        Pattern pattern;
+        synchronized (patterns) {
+            pattern = patterns.get(key);
+        }
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+        misses.increment();
+        // Compile outside the lock, a concurrent miss on the same key only compiles the pattern twice.
+        pattern = Pattern.compile(key.regExp(), flags);
+        synchronized (patterns) {
+            Pattern existing = patterns.putIfAbsent(key, pattern);
+            return existing != null ? existing : pattern;
+        }
+    }
+
+    static int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    private static void registerMetrics() {
+        if (metricsRegistered.get() || !ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        // The metric provider is set once the observe module is initialized.
+        if (registry.getMetricProvider() instanceof NoOpMetricProvider || !metricsRegistered.compareAndSet(false,
+                true)) {
+            return;
+        }
+        PolledGauge.builder("regexp_pattern_cache_hits_total", hits, LongAdder::doubleValue)
+                .description("Number of regular expression pattern cache hits").register(registry);
+        PolledGauge.builder("regexp_pattern_cache_misses_total", misses, LongAdder::doubleValue)
+                .description("Number of regular expression pattern cache misses").register(registry);
+        PolledGauge.builder("regexp_pattern_cache_evictions_total", evictions, LongAdder::doubleValue)
+                .description("Number of patterns evicted from the regular expression pattern cache")
+                .register(registry);
+        PolledGauge.builder("regexp_pattern_cache_size", patterns, map -> size())
+                .description("Number of patterns in the regular expression pattern cache").register(registry);
+    }
+
+    private record PatternKey(String regExp, int flags) {
+    }
+}
@@ -27,7 +27,6 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
@@ -79,10 +78,7 @@ public class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern pattern = RegExpPatternCache.getPattern((RegExpValue) regexpVal, Pattern.UNICODE_CHARACTER_CLASS);
         return pattern.matcher(inputStr);
     }
 
@@ -22,9 +22,10 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.regex.Pattern;
+
 /**
  * Native implementation of lang.regexp:split(string).
  *
@@ -33,10 +34,8 @@ import io.ballerina.runtime.internal.values.RegExpValue;
 public class Split {
 
     public static BArray split(BRegexpValue regExp, BString str) {
-        String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
-        String[] splitStrArr = originalString.split(regex, -1);
+        Pattern pattern = RegExpPatternCache.getPattern((RegExpValue) regExp, 0);
+        String[] splitStrArr = pattern.split(str.getValue(), -1);
         return StringUtils.fromStringArray(splitStrArr);
     }
 }
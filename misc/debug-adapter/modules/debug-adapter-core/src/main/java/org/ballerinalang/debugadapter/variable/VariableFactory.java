@@ -146,6 +146,7 @@ public class VariableFactory {
             return new BDecimal(context, varName, value);
         } else if (valueTypeName.equals(JVMValueType.BMP_STRING.getString())
                 || valueTypeName.equals(JVMValueType.NON_BMP_STRING.getString())
+                || valueTypeName.equals(JVMValueType.BUILDER_STRING.getString())
                 || valueTypeName.equals(JVMValueType.J_STRING.getString())) {
             return new BString(context, varName, value);
         } else if (valueTypeName.contains(JVMValueType.ARRAY_VALUE.getString())) {
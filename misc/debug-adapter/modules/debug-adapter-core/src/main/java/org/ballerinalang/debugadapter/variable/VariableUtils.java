@@ -42,6 +42,7 @@ public class VariableUtils {
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
+    public static final String FIELD_MATERIALIZED = "materialized";
     public static final String FIELD_PACKAGE = "pkg";
     public static final String FIELD_PKG_ORG = "org";
     public static final String FIELD_PKG_NAME = "name";
@@ -146,6 +147,11 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.BUILDER_STRING.getString())) {
+                // Builder backed strings only hold their string form once it has been materialized.
+                Optional<Value> materialized = getFieldValue(stringRef, FIELD_MATERIALIZED);
+                return materialized.map(value -> removeRedundantQuotes(value.toString())).orElse(UNKNOWN_VALUE);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -20,9 +20,11 @@ import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BSimpleVariable;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.JVMValueType;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
 import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFrom;
+import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringValue;
 
 /**
  * Ballerina string variable type.
@@ -38,8 +40,15 @@ public class BString extends BSimpleVariable {
     @Override
     public String computeValue() {
         try {
+            // Builder backed strings may not be materialized yet, hence their value is computed in the remote VM.
+            String stringValue;
+            if (jvmValue.type().name().equals(JVMValueType.BUILDER_STRING.getString())) {
+                stringValue = getStringValue(context, jvmValue);
+            } else {
+                stringValue = getStringFrom(jvmValue);
+            }
             // Add double quotes to the beginning and end of the computed string value.
-            return SYMBOL_DOUBLE_QUOTE + getStringFrom(jvmValue) + SYMBOL_DOUBLE_QUOTE;
+            return SYMBOL_DOUBLE_QUOTE + stringValue + SYMBOL_DOUBLE_QUOTE;
         } catch (Exception ignored) {
             return UNKNOWN_VALUE;
         }
@@ -60,7 +60,8 @@ public class ShellWrapper {
     }
 
     private ShellWrapper() {
-        this.configuration = new BShellConfiguration.Builder().build();
+        // Notebook cells are evaluated again and again, hence the outcome of parsing a cell is remembered.
+        this.configuration = new BShellConfiguration.Builder().setParallelTreeParsing(true).build();
         this.initializeEvaluator();
     }
 
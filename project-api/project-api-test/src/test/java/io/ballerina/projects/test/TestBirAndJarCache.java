@@ -34,6 +34,7 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -106,6 +107,53 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests loading the unchanged modules from the BIR and Jar cache")
+    public void testLoadingUnchangedModulesFromCache() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-compilation-key" + System.nanoTime()).resolve("projectOne");
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne").toFile(),
+                projectPath.toFile());
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+
+        // 1) The first build compiles and caches all the modules
+        Package currentPackage = buildWithCache(projectPath, testCompCacheFactory);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount,
+                currentPackage.moduleIds().size());
+
+        // 2) A rebuild of the unchanged project loads all the modules from the cache
+        buildWithCache(projectPath, testCompCacheFactory);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 0);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().jarCachedCount, 0);
+
+        // 3) Only the changed module is compiled again
+        Path svcFilePath = projectPath.resolve(ProjectConstants.MODULES_ROOT).resolve("services").resolve("svc.bal");
+        Files.writeString(svcFilePath, Files.readString(svcFilePath) + "\nfunction newFunction() {\n}\n");
+        buildWithCache(projectPath, testCompCacheFactory);
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount, 1);
+
+        // 4) A change in the compilation options compiles all the modules again
+        currentPackage = buildWithCache(projectPath, testCompCacheFactory,
+                BuildOptions.builder().setEnableCache(true).setListConflictedClasses(true).build());
+        Assert.assertEquals(testCompCacheFactory.compilationCache().birCachedCount,
+                currentPackage.moduleIds().size());
+    }
+
+    private static Package buildWithCache(Path projectPath, TestCompilationCacheFactory testCompCacheFactory) {
+        return buildWithCache(projectPath, testCompCacheFactory, BuildOptions.builder().setEnableCache(true).build());
+    }
+
+    private static Package buildWithCache(Path projectPath, TestCompilationCacheFactory testCompCacheFactory,
+                                          BuildOptions buildOptions) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return project.currentPackage();
+    }
+
     @Test
     public void testCachingWhenCodeGenHasErrors() throws IOException {
         Path projectPath = RESOURCE_DIRECTORY.resolve("project_with_nonexisting_interop");
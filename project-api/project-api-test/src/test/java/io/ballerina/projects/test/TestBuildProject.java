@@ -36,6 +36,7 @@ import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JarLibrary;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleCompilation;
 import io.ballerina.projects.ModuleConfig;
 import io.ballerina.projects.ModuleDescriptor;
 import io.ballerina.projects.ModuleId;
@@ -581,6 +582,63 @@ public class TestBuildProject extends BaseTest {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test(description = "tests reusing the compilations of the modules unaffected by a document update")
+    public void testReuseUnaffectedModuleCompilations() {
+        Path projectPath = tempResourceDir.resolve("myproject");
+        BuildProject project = loadBuildProject(projectPath);
+        Package oldPackage = project.currentPackage();
+        Module storageModule = oldPackage.module(ModuleName.from(oldPackage.packageName(), "storage"));
+        Module servicesModule = oldPackage.module(ModuleName.from(oldPackage.packageName(), "services"));
+        ModuleCompilation storageCompilation = storageModule.getCompilation();
+        ModuleCompilation servicesCompilation = servicesModule.getCompilation();
+        ModuleCompilation defaultModuleCompilation = oldPackage.getDefaultModule().getCompilation();
+
+        // Update a document of the default module, which no other module depends on
+        Module defaultModule = oldPackage.getDefaultModule();
+        DocumentId mainDocumentId = defaultModule.documentIds().stream()
+                .filter(documentId -> defaultModule.document(documentId).name().equals("main.bal"))
+                .findFirst().orElseThrow();
+        defaultModule.document(mainDocumentId).modify().withContent(dummyContent).apply();
+
+        Package updatedPackage = project.currentPackage();
+        Assert.assertNotEquals(updatedPackage, oldPackage);
+        Assert.assertSame(updatedPackage.module(storageModule.moduleId()).getCompilation(), storageCompilation);
+        Assert.assertSame(updatedPackage.module(servicesModule.moduleId()).getCompilation(), servicesCompilation);
+        Assert.assertNotSame(updatedPackage.getDefaultModule().getCompilation(), defaultModuleCompilation);
+
+        // Update a document of the storage module, which the services module depends on
+        Module updatedStorageModule = updatedPackage.module(storageModule.moduleId());
+        DocumentId dbDocumentId = updatedStorageModule.documentIds().iterator().next();
+        updatedStorageModule.document(dbDocumentId).modify()
+                .withContent(updatedStorageModule.document(dbDocumentId).textDocument().toString()).apply();
+
+        updatedPackage = project.currentPackage();
+        Assert.assertNotSame(updatedPackage.module(storageModule.moduleId()).getCompilation(), storageCompilation);
+        Assert.assertNotSame(updatedPackage.module(servicesModule.moduleId()).getCompilation(),
+                servicesCompilation);
+    }
+
+    @Test(description = "tests that module compilations are carried over only to the next package")
+    public void testModuleCompilationsCarriedOverOnce() {
+        Path projectPath = tempResourceDir.resolve("myproject");
+        BuildProject project = loadBuildProject(projectPath);
+        Package oldPackage = project.currentPackage();
+        Module storageModule = oldPackage.module(ModuleName.from(oldPackage.packageName(), "storage"));
+        ModuleCompilation storageCompilation = storageModule.getCompilation();
+
+        // Update the default module twice, without requesting the storage module compilation in between
+        for (int i = 0; i < 2; i++) {
+            Module defaultModule = project.currentPackage().getDefaultModule();
+            DocumentId mainDocumentId = defaultModule.documentIds().stream()
+                    .filter(documentId -> defaultModule.document(documentId).name().equals("main.bal"))
+                    .findFirst().orElseThrow();
+            defaultModule.document(mainDocumentId).modify().withContent(dummyContent + "\n// " + i).apply();
+        }
+
+        Package updatedPackage = project.currentPackage();
+        Assert.assertNotSame(updatedPackage.module(storageModule.moduleId()).getCompilation(), storageCompilation);
+    }
+
     @Test
     public void testUpdateTestDocument() {
         // Inputs from langserver
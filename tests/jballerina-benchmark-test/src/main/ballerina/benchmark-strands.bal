@@ -0,0 +1,158 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// These benchmarks stress the strand scheduler. Run them with `-Pscheduler.run.queue=shared` and
+// `-Pscheduler.run.queue=work-stealing` to compare the scheduler run queue implementations.
+
+const int STRAND_BATCH_SIZE = 1000;
+
+isolated function square(int i) returns int {
+    return i * i;
+}
+
+function startAndWait(int count) returns int {
+    int sum = 0;
+    int remaining = count;
+    while (remaining > 0) {
+        int batchSize = remaining < STRAND_BATCH_SIZE ? remaining : STRAND_BATCH_SIZE;
+        future<int>[] futures = [];
+        int i = 0;
+        while (i < batchSize) {
+            future<int> f = start square(i);
+            futures.push(f);
+            i += 1;
+        }
+        foreach future<int> f in futures {
+            int|error result = wait f;
+            sum += checkpanic result;
+        }
+        remaining -= batchSize;
+    }
+    return sum;
+}
+
+// Worker sends have to be top level statements, hence the messages of a single call are unrolled.
+function streamMessages(int value) returns int {
+    worker producer {
+        value -> consumer;
+        value + 1 -> consumer;
+        value + 2 -> consumer;
+        value + 3 -> consumer;
+        value + 4 -> consumer;
+        value + 5 -> consumer;
+        value + 6 -> consumer;
+        value + 7 -> consumer;
+    }
+
+    worker consumer returns int {
+        int sum = <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        return sum;
+    }
+
+    int|error result = wait consumer;
+    return checkpanic result;
+}
+
+// Waits on the future at the bottom of a call chain, so that each yield saves and restores a frame per call.
+function waitAtDepth(int depth, future<int> f) returns int {
+    if depth == 0 {
+        int|error result = wait f;
+        return checkpanic result;
+    }
+    return waitAtDepth(depth - 1, f) + 1;
+}
+
+function startAndWaitAtDepth(int count, int depth) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < count) {
+        future<int> f = start square(i);
+        sum += waitAtDepth(depth, f);
+        i += 1;
+    }
+    return sum;
+}
+
+function pingPong(int value) returns int {
+    worker ping returns int {
+        value -> pong;
+        int reply = <- pong;
+        return reply;
+    }
+
+    worker pong {
+        int request = <- ping;
+        request + 1 -> ping;
+    }
+
+    int|error result = wait ping;
+    return checkpanic result;
+}
+
+public function benchmarkStrandStartAndWait(int warmupCount, int benchmarkCount) returns int {
+    _ = startAndWait(warmupCount);
+
+    int startTime = nanoTime();
+    _ = startAndWait(benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerPingPong(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = pingPong(i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = pingPong(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStrandYieldWithDeepStack(int warmupCount, int benchmarkCount) returns int {
+    _ = startAndWaitAtDepth(warmupCount, 16);
+
+    int startTime = nanoTime();
+    _ = startAndWaitAtDepth(benchmarkCount, 16);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerMessageThroughput(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = streamMessages(i);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = streamMessages(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
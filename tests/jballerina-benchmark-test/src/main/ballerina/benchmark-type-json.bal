@@ -0,0 +1,76 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// These benchmarks measure the throughput of creating, converting and parsing JSON objects, while the allocated
+// volume shows in the freed memory columns of the results. Each batch stays reachable until the next run replaces it,
+// hence the retained heap footprint of map values can be compared from the heap after GC in the collected GC logs.
+
+const int JSON_BATCH_SIZE = 100;
+
+type JsonOrderLine record {
+    string sku;
+    int quantity;
+    decimal price;
+};
+
+type JsonOrder record {
+    int id;
+    string customer;
+    boolean paid;
+    JsonOrderLine[] lines;
+};
+
+json[] retainedJsonValues = [];
+JsonOrder[] retainedJsonOrders = [];
+
+function createJsonOrder(int id) returns json {
+    return {
+        id: id,
+        customer: "customer-" + id.toString(),
+        paid: id % 2 == 0,
+        lines: [
+            {sku: "A-1", quantity: 1, price: 10.5d},
+            {sku: "B-2", quantity: 3, price: 4.25d}
+        ]
+    };
+}
+
+public function benchmarkJsonObjectCreation() {
+    json[] values = [];
+    foreach int i in 0 ..< JSON_BATCH_SIZE {
+        values.push(createJsonOrder(i));
+    }
+    retainedJsonValues = values;
+}
+
+public function benchmarkJsonToRecord() {
+    JsonOrder[] orders = [];
+    foreach int i in 0 ..< JSON_BATCH_SIZE {
+        JsonOrder ord = checkpanic createJsonOrder(i).cloneWithType();
+        orders.push(ord);
+    }
+    retainedJsonOrders = orders;
+}
+
+public function benchmarkJsonParse() {
+    json[] values = [];
+    foreach int i in 0 ..< JSON_BATCH_SIZE {
+        string text = "{\"id\":" + i.toString() + ",\"customer\":\"c\",\"paid\":true,"
+            + "\"lines\":[{\"sku\":\"A-1\",\"quantity\":1,\"price\":10.5}]}";
+        values.push(checkpanic text.fromJsonString());
+    }
+    retainedJsonValues = values;
+}
@@ -95,3 +95,19 @@ public function benchmarkStringLength() {
     int i = str.length();
 }
 
+
+public function benchmarkStringConcatInLoop() {
+    string s = "";
+    foreach int i in 0 ..< 1000 {
+        s = s + "item-";
+    }
+    int length = s.length();
+}
+
+public function benchmarkStringTemplateInLoop() {
+    string s = "";
+    foreach int i in 0 ..< 1000 {
+        s = string `${s}<row id="${i}">${i * 2}</row>`;
+    }
+    int length = s.length();
+}
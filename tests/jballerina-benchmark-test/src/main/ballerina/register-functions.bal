@@ -36,6 +36,10 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkStrandStartAndWait", benchmarkStrandStartAndWait);
+    addSingleExecFunction("benchmarkWorkerPingPong", benchmarkWorkerPingPong);
+    addSingleExecFunction("benchmarkStrandYieldWithDeepStack", benchmarkStrandYieldWithDeepStack);
+    addSingleExecFunction("benchmarkWorkerMessageThroughput", benchmarkWorkerMessageThroughput);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +59,8 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
+    addMultiExecFunction("benchmarkStringTemplateInLoop", benchmarkStringTemplateInLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -63,4 +69,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkJsonObjectCreation", benchmarkJsonObjectCreation);
+    addMultiExecFunction("benchmarkJsonToRecord", benchmarkJsonToRecord);
+    addMultiExecFunction("benchmarkJsonParse", benchmarkJsonParse);
 }
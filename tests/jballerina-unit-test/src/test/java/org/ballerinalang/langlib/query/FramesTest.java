@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests for merging query frames with {@link Frames}.
+ *
+ * @since 2201.10.0
+ */
+public class FramesTest {
+
+    private static final MapType FRAME_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANY);
+
+    @Test
+    public void testMergeOverlappingFrames() {
+        BMap<BString, Object> lhs = createFrame("a", 1L, "b", 2L);
+        BMap<BString, Object> rhs = createFrame("b", 3L, "c", 4L);
+        BMap<BString, Object> merged = Frames.merge(lhs, rhs);
+
+        Assert.assertEquals(merged.getKeys(), new BString[]{key("a"), key("b"), key("c")});
+        Assert.assertEquals(merged.get(key("a")), 1L);
+        Assert.assertEquals(merged.get(key("b")), 3L);
+        Assert.assertEquals(merged.get(key("c")), 4L);
+        Assert.assertSame(merged.getType(), lhs.getType());
+        // The merged frame is a new frame, the merged frames are left as they are.
+        Assert.assertEquals(lhs.get(key("b")), 2L);
+        Assert.assertEquals(lhs.size(), 2);
+        Assert.assertEquals(rhs.size(), 2);
+    }
+
+    @Test
+    public void testMergeIntoEmptyFrame() {
+        BMap<BString, Object> lhs = createFrame();
+        BMap<BString, Object> merged = Frames.merge(lhs, createFrame("x", 1L));
+
+        Assert.assertEquals(merged.getKeys(), new BString[]{key("x")});
+        Assert.assertEquals(merged.get(key("x")), 1L);
+        Assert.assertEquals(lhs.size(), 0);
+    }
+
+    @Test
+    public void testMergeEmptyFrame() {
+        BMap<BString, Object> lhs = createFrame("a", 1L);
+        BMap<BString, Object> merged = Frames.merge(lhs, createFrame());
+
+        Assert.assertFalse(merged == lhs);
+        Assert.assertEquals(merged.getKeys(), new BString[]{key("a")});
+        Assert.assertEquals(merged.get(key("a")), 1L);
+    }
+
+    @Test
+    public void testMergeEmptyFrames() {
+        BMap<BString, Object> merged = Frames.merge(createFrame(), createFrame());
+
+        Assert.assertTrue(merged.isEmpty());
+        Assert.assertSame(merged.getType(), FRAME_TYPE);
+    }
+
+    private static BMap<BString, Object> createFrame(Object... entries) {
+        BMap<BString, Object> frame = ValueCreator.createMapValue(FRAME_TYPE);
+        List<Object> entryList = List.of(entries);
+        for (int i = 0; i < entryList.size(); i += 2) {
+            frame.put(key((String) entryList.get(i)), entryList.get(i + 1));
+        }
+        return frame;
+    }
+
+    private static BString key(String name) {
+        return StringUtils.fromString(name);
+    }
+}
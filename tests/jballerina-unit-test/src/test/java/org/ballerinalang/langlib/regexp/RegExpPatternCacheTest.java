@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.regexp;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * Tests for the compiled pattern cache of lang.regexp.
+ *
+ * @since 2201.10.0
+ */
+public class RegExpPatternCacheTest {
+
+    @Test
+    public void testSamePatternIsCached() {
+        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("a.b"), 0);
+        Assert.assertEquals(pattern.pattern(), "a[^\\r\\n]b");
+        Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("a.b"), 0), pattern);
+    }
+
+    @Test
+    public void testTranslatedValueIsCached() {
+        RegExpValue regExpValue = RegExpFactory.parse("x.y");
+        Pattern pattern = RegExpPatternCache.getPattern(regExpValue, 0);
+        // The translation updates the value in place, the same value has to map to the same entry afterwards.
+        Assert.assertSame(RegExpPatternCache.getPattern(regExpValue, 0), pattern);
+        Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("x.y"), 0), pattern);
+    }
+
+    @Test
+    public void testFlagsArePartOfTheKey() {
+        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("[a-z]+"), 0);
+        Pattern unicodePattern = RegExpPatternCache.getPattern(RegExpFactory.parse("[a-z]+"),
+                Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertNotSame(unicodePattern, pattern);
+        Assert.assertEquals(pattern.flags(), 0);
+        Assert.assertEquals(unicodePattern.flags() & Pattern.UNICODE_CHARACTER_CLASS, Pattern.UNICODE_CHARACTER_CLASS);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        Pattern recentlyUsed = RegExpPatternCache.getPattern(RegExpFactory.parse("recent"), 0);
+        Pattern leastRecentlyUsed = RegExpPatternCache.getPattern(RegExpFactory.parse("eldest"), 0);
+        for (int i = 0; i < RegExpPatternCache.MAX_SIZE; i++) {
+            RegExpPatternCache.getPattern(RegExpFactory.parse("bounded" + i), 0);
+            Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("recent"), 0), recentlyUsed);
+        }
+        Assert.assertEquals(RegExpPatternCache.size(), RegExpPatternCache.MAX_SIZE);
+        Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("recent"), 0), recentlyUsed);
+        Assert.assertNotSame(RegExpPatternCache.getPattern(RegExpFactory.parse("eldest"), 0), leastRecentlyUsed);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRLockOptimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the lock statements marked read-only by the {@link BIRLockOptimizer}.
+ */
+public class BirLockOptimizationTest {
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        birPackage = BCompileUtil.generateBIR("test-src/bir/lock_optimizer.bal").getExpectedBIR();
+    }
+
+    @Test(dataProvider = "lockStatements")
+    public void testReadOnlyLocks(String functionName, boolean readOnly) {
+        List<BIRTerminator.Lock> locks = getLocks(functionName);
+        Assert.assertFalse(locks.isEmpty(), "no lock statement found in " + functionName);
+        for (BIRTerminator.Lock lock : locks) {
+            Assert.assertEquals(lock.readOnly, readOnly, "unexpected lock kind in " + functionName);
+        }
+    }
+
+    @DataProvider
+    public Object[][] lockStatements() {
+        return new Object[][]{
+                {"readCounter", true},
+                {"readMapSize", true},
+                {"readNames", true},
+                {"writeCounter", false},
+                {"storeInMap", false},
+                {"callFunction", false},
+                // converting a value to a string may call the toString method of an object
+                {"stringifyValues", false},
+                {"balStringifyValues", false}
+        };
+    }
+
+    private List<BIRTerminator.Lock> getLocks(String functionName) {
+        List<BIRTerminator.Lock> locks = new ArrayList<>();
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(functionName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+                if (basicBlock.terminator instanceof BIRTerminator.Lock lock) {
+                    locks.add(lock);
+                }
+            }
+        }
+        return locks;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birPackage = null;
+    }
+}
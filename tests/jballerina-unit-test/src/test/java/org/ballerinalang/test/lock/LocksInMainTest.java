@@ -119,6 +119,11 @@ public class LocksInMainTest {
         BRunUtil.invoke(locksCompileResult, "testBreakInsideLock");
     }
 
+    @Test(description = "Tests read-only lock statements sharing the lock")
+    public void testReadOnlyLocks() {
+        BRunUtil.invoke(locksCompileResult, "testReadOnlyLocks");
+    }
+
     @Test(description = "Tests next inside lock statement")
     public void testNextInsideLock() {
         BRunUtil.invoke(locksCompileResult, "testNextInsideLock");
@@ -124,6 +124,11 @@ public class JoinClauseTest {
     public void testJoinClauseWithLargeList() {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
+
+    @Test(description = "Test join clause keys are compared using equality instead of string values")
+    public void testJoinClauseWithStructuredAndNumericKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithStructuredAndNumericKeys");
+    }
     
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
@@ -331,6 +331,11 @@ public class ClosedRecordTest {
         BRunUtil.invoke(compileResult, "testOverridingIncludedFieldInRecordWithReadOnlyIntersection");
     }
 
+    @Test
+    public void testFieldAccessOfEquivalentRecordValues() {
+        BRunUtil.invoke(compileResult, "testFieldAccessOfEquivalentRecordValues");
+    }
+
     @AfterClass
     public void tearDown() {
         compileResult = null;
@@ -0,0 +1,78 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+class Greeter {
+    public function toString() returns string {
+        return "greeter";
+    }
+}
+
+int counter = 0;
+map<int> counts = {};
+string[] names = [];
+any[] values = [new Greeter()];
+
+function readCounter() returns int {
+    lock {
+        return counter;
+    }
+}
+
+function readMapSize() returns int {
+    lock {
+        return counts.length();
+    }
+}
+
+function readNames() returns string[] {
+    lock {
+        return names.clone();
+    }
+}
+
+function writeCounter() {
+    lock {
+        counter += 1;
+    }
+}
+
+function storeInMap() {
+    lock {
+        counts["a"] = 1;
+    }
+}
+
+function callFunction() returns int {
+    lock {
+        return getCounter();
+    }
+}
+
+function stringifyValues() returns string {
+    lock {
+        return values.toString();
+    }
+}
+
+function balStringifyValues() returns string {
+    lock {
+        return values.toBalString();
+    }
+}
+
+function getCounter() returns int {
+    return counter;
+}
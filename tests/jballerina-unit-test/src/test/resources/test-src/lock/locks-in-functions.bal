@@ -465,6 +465,49 @@ function nextInsideLock() returns [int, string] {
     return [lockWithinLockInt1, lockWithinLockString1];
 }
 
+map<int> readOnlyLockCounts = {};
+
+function readCount(string key) returns int {
+    lock {
+        // only reads the map, hence the lock is shared with the other readers
+        return readOnlyLockCounts.hasKey(key) ? readOnlyLockCounts.get(key) : 0;
+    }
+}
+
+function testReadOnlyLocks() {
+    @strand {thread: "any"}
+    worker w1 returns int {
+        int seen = 0;
+        foreach int i in 0 ..< 100 {
+            seen = readCount("count");
+        }
+        return seen;
+    }
+
+    @strand {thread: "any"}
+    worker w2 returns int {
+        int seen = 0;
+        foreach int i in 0 ..< 100 {
+            seen = readCount("count");
+        }
+        return seen;
+    }
+
+    foreach int i in 0 ..< 100 {
+        lock {
+            readOnlyLockCounts["count"] = i + 1;
+            // a read-only lock within a write lock of the same variables
+            test:assertEquals(readCount("count"), i + 1);
+        }
+    }
+
+    int|error w1Result = wait w1;
+    int|error w2Result = wait w2;
+    test:assertTrue(w1Result is int && w1Result <= 100);
+    test:assertTrue(w2Result is int && w2Result <= 100);
+    test:assertEquals(readCount("count"), 100);
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;
@@ -527,6 +527,29 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+public function testJoinClauseWithStructuredAndNumericKeys() {
+    map<int>[] lhsKeys = [{a: 1, b: 2}, {b: 4, a: 3}];
+    map<int>[] rhsKeys = [{b: 2, a: 1}, {a: 3, b: 4}, {a: 5, b: 6}];
+    map<int>[] joinedKeys = from var l in lhsKeys
+            join var r in rhsKeys on l equals r
+            select r;
+    assertEquality(<map<int>[]>[{a: 1, b: 2}, {a: 3, b: 4}], joinedKeys);
+
+    decimal[] lhsDecimals = [1.50, 2.0];
+    decimal[] rhsDecimals = [1.5, 2.00, 3];
+    decimal[] joinedDecimals = from var l in lhsDecimals
+            join var r in rhsDecimals on l equals r
+            select r;
+    assertEquality(<decimal[]>[1.5, 2.00], joinedDecimals);
+
+    anydata[] lhsValues = [1, "1", 1.0];
+    anydata[] rhsValues = ["1"];
+    anydata[] joinedValues = from var l in lhsValues
+            join var r in rhsValues on l equals r
+            select l;
+    assertEquality(<anydata[]>["1"], joinedValues);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -502,3 +502,33 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+function testQueryExprWithOrderByAndLimitOverManyFrames() returns boolean {
+    [int, int][] pairs = [];
+    foreach int i in 0 ..< 50 {
+        pairs.push([i % 7, i]);
+    }
+    [int, int][] allOrdered = from var [k, v] in pairs order by k descending select [k, v];
+
+    [int, int][] top3 = from var [k, v] in pairs order by k descending limit 3 select [k, v];
+    [int, int][] top10 = from var [k, v] in pairs order by k descending limit 10 select [k, v];
+    [int, int][] top100 = from var [k, v] in pairs order by k descending limit 100 select [k, v];
+
+    return top3 == allOrdered.slice(0, 3) && top10 == allOrdered.slice(0, 10) && top100 == allOrdered
+        && top3 == [[6, 6], [6, 13], [6, 20]];
+}
+
+function testQueryExprWithOrderByAndFrameDependentLimit() returns boolean {
+    int[] ages = [40, 20, 25, 30];
+    // The limit of the first (unsorted) frame is 1, but the limit is applied to the sorted frames.
+    int[] youngest = from int age in ages
+        let int limitValue = age > 35 ? 1 : 3
+        order by age
+        limit limitValue
+        select age;
+
+    int n = 2;
+    int[] oldest = from int age in ages order by age descending limit n select age;
+
+    return youngest == [20, 25, 30] && oldest == [40, 30];
+}
@@ -406,6 +406,47 @@ function testOverridingIncludedFieldInRecordWithReadOnlyIntersection() {
     assertEquality("world", corge.body.b);
 }
 
+type Point record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+    int[] tags;
+|};
+
+type OtherPoint record {|
+    int x;
+    float y;
+    string label;
+    boolean visible;
+    int[] tags;
+|};
+
+function testFieldAccessOfEquivalentRecordValues() {
+    Point p = {x: 1, y: 2.5, label: "a", visible: true, tags: [1]};
+    Point q = <OtherPoint> {x: 3, y: 4.5, label: "b", visible: false, tags: [2, 3]};
+    assertEquality(1, p.x);
+    assertEquality(2.5, p.y);
+    assertEquality("a", p.label);
+    assertEquality(true, p.visible);
+    assertEquality([1], p.tags);
+    assertEquality(3, q.x);
+    assertEquality(4.5, q.y);
+    assertEquality("b", q.label);
+    assertEquality(false, q.visible);
+    assertEquality([2, 3], q.tags);
+
+    p.x = 10;
+    p["label"] = "c";
+    assertEquality(10, p.x);
+    assertEquality("c", p.label);
+
+    Point & readonly r = {x: 5, y: 6.5, label: "d", visible: true, tags: [4]};
+    Point s = r;
+    assertEquality(5, s.x);
+    assertEquality("d", s.label);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;